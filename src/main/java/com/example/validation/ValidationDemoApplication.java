@@ -2,6 +2,7 @@ package com.example.validation;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * Early Return 優化範例應用程式
@@ -10,6 +11,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * 改進為使用 Bean Validation 的優雅做法
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class ValidationDemoApplication {
 
     public static void main(String[] args) {
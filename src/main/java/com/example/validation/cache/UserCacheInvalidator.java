@@ -0,0 +1,58 @@
+package com.example.validation.cache;
+
+import com.example.validation.config.CacheConfig;
+import com.example.validation.event.UserUpdatedEvent;
+import com.example.validation.model.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 使用者資料變更後清除快取
+ *
+ * 在交易提交後（AFTER_COMMIT）才清除：交易回滾時快取保持不變，
+ * 也不會在提交前清除後又被其他請求以舊資料重新載入
+ *
+ * 提交前就開始的載入仍可能在清除之後才寫入舊資料，因此延遲 load-timeout 後再清除一次；
+ * 載入最多等待 load-timeout，之後不會再有以舊資料寫入的快取項目
+ *
+ * 同時清除該使用者的 Hibernate 二級快取（原生 UPDATE 不會自動清除），
+ * 避免提交前其他交易讀到舊資料後又放回快取
+ */
+@Component
+@Slf4j
+public class UserCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Executor delayedEviction;
+
+    public UserCacheInvalidator(CacheManager cacheManager,
+                                EntityManagerFactory entityManagerFactory,
+                                @Value("${app.cache.user-data.load-timeout:5s}") Duration loadTimeout) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.delayedEviction = CompletableFuture.delayedExecutor(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event) {
+        entityManagerFactory.getCache().evict(User.class, event.userId());
+        Cache cache = cacheManager.getCache(CacheConfig.USER_SNAPSHOT_CACHE);
+        if (cache != null) {
+            cache.evict(event.userId());
+            delayedEviction.execute(() -> cache.evict(event.userId()));
+            log.debug("已清除使用者快取，ID: {}", event.userId());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.validation.config;
+
+import com.example.validation.repository.UserRepository;
+import com.example.validation.repository.UserSnapshot;
+import com.example.validation.support.BatchLoader;
+import com.example.validation.support.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 快取配置
+ *
+ * 快取實作為 Caffeine（spring.cache.caffeine.spec）：
+ * - W-TinyLFU 淘汰策略，會依存取頻率決定是否接納新項目，適合少數熱門使用者的存取模式
+ * - 大小與存活時間由 spec 設定，recordStats 開啟後由 Actuator 匯出 cache.gets、cache.evictions 等指標
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * UserService.getUser 的快取（GET /api/users/{id}），key 為使用者 ID
+     */
+    public static final String USER_SNAPSHOT_CACHE = "userSnapshots";
+
+    /**
+     * 合併快取未命中時對同一使用者的並發載入
+     *
+     * @param loadTimeout 等待其他請求載入結果的最長時間
+     */
+    @Bean
+    public SingleFlight<Long, UserSnapshot> userSnapshotLoads(
+            @Value("${app.cache.user-data.load-timeout:5s}") Duration loadTimeout) {
+        return new SingleFlight<>(loadTimeout);
+    }
+
+    /**
+     * 將不同使用者的並發載入合併為一次 IN 查詢
+     *
+     * @param window       有批次執行中時收集載入的最長時間（沒有並發時載入立即送出）
+     * @param maxBatchSize 單一 IN 查詢的最大筆數
+     * @param concurrency  同時執行的批次查詢數
+     * @param loadTimeout  等待批次結果的最長時間
+     */
+    @Bean(destroyMethod = "close")
+    public BatchLoader<Long, UserSnapshot> userSnapshotBatchLoader(
+            UserRepository userRepository,
+            @Value("${app.cache.user-data.batch-window:2ms}") Duration window,
+            @Value("${app.cache.user-data.batch-max-size:100}") int maxBatchSize,
+            @Value("${app.cache.user-data.batch-concurrency:4}") int concurrency,
+            @Value("${app.cache.user-data.load-timeout:5s}") Duration loadTimeout) {
+        return new BatchLoader<>("user-snapshot-loader",
+                ids -> userRepository.findSnapshotsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(UserSnapshot::id, Function.identity())),
+                window, maxBatchSize, concurrency, loadTimeout);
+    }
+}
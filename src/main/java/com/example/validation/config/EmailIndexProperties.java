@@ -0,0 +1,51 @@
+package com.example.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Email 索引設定（app.email-index）
+ */
+@Data
+@ConfigurationProperties(prefix = "app.email-index")
+public class EmailIndexProperties {
+
+    /**
+     * 索引類型：memory（整份 Email 放在 Heap）或 bloom（記憶體映射的 Bloom Filter）
+     */
+    private Type type = Type.MEMORY;
+
+    private final Bloom bloom = new Bloom();
+
+    public enum Type {
+        MEMORY,
+        BLOOM
+    }
+
+    @Data
+    public static class Bloom {
+
+        /**
+         * 存放 Bloom Filter 檔案的目錄
+         */
+        private Path directory = Path.of("data", "email-bloom");
+
+        /**
+         * 預期的 Email 數量；實際數量較多時，重建會以實際數量的兩倍配置
+         */
+        private long expectedInsertions = 10_000_000;
+
+        /**
+         * 目標誤判率（回答「可能存在」但實際不存在的比例）
+         */
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * 定期重建的間隔；未設定時只在檔案不可用或容量用盡時重建
+         */
+        private Duration rebuildInterval;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 使用者匯入設定（app.import）
+ */
+@Data
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    /**
+     * 上傳檔案與錯誤報告的存放目錄
+     */
+    private Path directory = Path.of("data", "imports");
+
+    /**
+     * 每段處理的筆數（平行驗證後以一次批次註冊寫入）
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 每次從檔案讀取的大小
+     */
+    private DataSize readBufferSize = DataSize.ofMegabytes(1);
+
+    /**
+     * 單行最大長度
+     */
+    private DataSize maxLineLength = DataSize.ofKilobytes(64);
+
+    /**
+     * 解析與驗證的平行度
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 同時執行的匯入工作數
+     */
+    private int concurrentJobs = 2;
+
+    /**
+     * 結束的匯入工作（含錯誤報告）保留多久，之後從記憶體與磁碟移除
+     */
+    private Duration retention = Duration.ofHours(1);
+}
@@ -0,0 +1,31 @@
+package com.example.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 註冊流程設定（app.registration）
+ */
+@Data
+@ConfigurationProperties(prefix = "app.registration")
+public class RegistrationProperties {
+
+    /**
+     * 先寫入、由資料庫唯一約束判斷 Email 是否重複（預設開啟）
+     *
+     * 開啟時 @UniqueEmail 只在 Email 索引確定已存在時才會失敗，
+     * 索引無法確定時不查詢資料庫，重複的 Email 由 INSERT 的唯一約束擋下；
+     * 關閉時索引無法確定會改以資料庫查詢（natural id）預先檢查
+     */
+    private boolean insertFirst = true;
+
+    /**
+     * 批次註冊單次請求的最大筆數
+     */
+    private int batchMaxSize = 5000;
+
+    /**
+     * 批次註冊每個交易寫入的筆數（交易內再依 hibernate.jdbc.batch_size 分批送出）
+     */
+    private int batchChunkSize = 500;
+}
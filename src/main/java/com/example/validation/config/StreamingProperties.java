@@ -0,0 +1,27 @@
+package com.example.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 串流回應設定（app.streaming）
+ *
+ * 全域的 spring.mvc.async.request-timeout 適用於一般非同步請求，
+ * 長時間的串流端點在這裡個別設定逾時
+ */
+@Data
+@ConfigurationProperties(prefix = "app.streaming")
+public class StreamingProperties {
+
+    /**
+     * GET /api/users/export 的逾時時間
+     */
+    private Duration exportTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 串流驗證端點（/validate/stream 等）的逾時時間
+     */
+    private Duration validationTimeout = Duration.ofMinutes(10);
+}
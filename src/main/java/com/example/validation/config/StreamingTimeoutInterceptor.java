@@ -0,0 +1,39 @@
+package com.example.validation.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 讓單一請求的串流回應（StreamingResponseBody）使用自己的逾時時間
+ *
+ * Controller 以 {@link #setTimeout(HttpServletRequest, Duration)} 標記請求，
+ * 開始非同步處理前改寫這個請求的逾時；未標記的請求沿用 spring.mvc.async.request-timeout
+ */
+public class StreamingTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private static final String TIMEOUT_ATTRIBUTE = StreamingTimeoutInterceptor.class.getName() + ".timeout";
+
+    /**
+     * 設定此請求串流回應的逾時時間
+     *
+     * @param request HTTP 請求
+     * @param timeout 逾時時間
+     */
+    public static void setTimeout(HttpServletRequest request, Duration timeout) {
+        request.setAttribute(TIMEOUT_ATTRIBUTE, timeout);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Duration timeout
+                && request instanceof AsyncWebRequest asyncRequest) {
+            asyncRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 使用者查詢設定（app.users）
+ */
+@Data
+@ConfigurationProperties(prefix = "app.users")
+public class UserQueryProperties {
+
+    /**
+     * GET /api/users?ids=... 單次查詢的最大 ID 數量
+     */
+    private int multiGetMaxIds = 100;
+}
@@ -0,0 +1,36 @@
+package com.example.validation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * VIP 相關設定（app.vip）
+ */
+@Data
+@ConfigurationProperties(prefix = "app.vip")
+public class VipProperties {
+
+    /**
+     * 外部規則檔（JSON）；檔案存在時優先使用，修改後會自動重新載入。
+     * 檔案不存在時使用 classpath 的 vip-tiers.json
+     */
+    private Path tiersFile = Path.of("config", "vip-tiers.json");
+
+    /**
+     * 檢查外部規則檔是否修改的間隔
+     */
+    private Duration reloadInterval = Duration.ofSeconds(10);
+
+    /**
+     * 批次 VIP 驗證的最大筆數；解析請求時逐筆計數，超過時立即拒絕
+     */
+    private int batchMaxSize = 100_000;
+
+    /**
+     * 批次 VIP 驗證使用的 ForkJoinPool 平行度；0 表示 CPU 核心數
+     */
+    private int batchParallelism = 0;
+}
@@ -0,0 +1,31 @@
+package com.example.validation.config;
+
+import com.example.validation.validation.compiled.CompiledValidatorAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 配置
+ *
+ * 將 Controller 的 @Valid 驗證改為使用編譯期驗證器，
+ * 並讓串流端點可以個別設定逾時（StreamingTimeoutInterceptor）
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CompiledValidatorAdapter compiledValidatorAdapter;
+
+    @Override
+    public Validator getValidator() {
+        return compiledValidatorAdapter;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StreamingTimeoutInterceptor());
+    }
+}
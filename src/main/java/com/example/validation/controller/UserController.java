@@ -1,16 +1,43 @@
 package com.example.validation.controller;
 
-import com.example.validation.model.dto.request.UserDataTransfer;
+import com.example.validation.config.StreamingProperties;
+import com.example.validation.config.StreamingTimeoutInterceptor;
+import com.example.validation.export.ExportFormat;
 import com.example.validation.model.dto.request.UserRegistrationRequest;
 import com.example.validation.model.dto.request.UserVipRequest;
+import com.example.validation.model.dto.response.BatchRegistrationResponse;
+import com.example.validation.model.dto.response.ProfileUpdateResponse;
+import com.example.validation.model.dto.response.UserLookupResponse;
+import com.example.validation.model.dto.response.UserPageResponse;
 import com.example.validation.model.dto.response.UserResponse;
+import com.example.validation.model.dto.response.VipBatchValidationResponse;
+import com.example.validation.repository.UserSearchCriteria;
+import com.example.validation.repository.UserSnapshot;
 import com.example.validation.service.ProfileService;
+import com.example.validation.service.StreamValidationService;
+import com.example.validation.service.UserExportService;
 import com.example.validation.service.UserService;
+import com.example.validation.service.VipValidationService;
+import com.example.validation.validation.FailFast;
+import com.example.validation.validation.StreamValidationType;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 使用者 Controller
@@ -20,22 +47,32 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final UserService userService;
     private final ProfileService profileService;
+    private final UserExportService userExportService;
+    private final VipValidationService vipValidationService;
+    private final StreamValidationService streamValidationService;
+    private final StreamingProperties streamingProperties;
 
     /**
      * 使用者註冊 API
      *
-     * 重點：@Valid 註解會觸發 Bean Validation
+     * 重點：@Validated 註解會觸發 Bean Validation
      * 如果驗證失敗，Spring 會自動拋出 MethodArgumentNotValidException
      * 該異常會被 GlobalExceptionHandler 捕獲並處理
      *
+     * 此端點預設為 fail-fast：遇到第一個錯誤就停止，
+     * 格式錯誤的請求不會再執行查詢資料庫的 @UniqueEmail
+     * （可用 X-Validation-Mode: all 標頭取得所有錯誤）
+     *
      * @param request 使用者註冊請求（會自動驗證）
      * @return 註冊成功的使用者資訊
      */
     @PostMapping("/register")
     public ResponseEntity<UserResponse> registerUser(
-            @Valid @RequestBody UserRegistrationRequest request) {
+            @Validated(FailFast.class) @RequestBody UserRegistrationRequest request) {
 
         UserResponse response = userService.registerUser(request);
 
@@ -45,33 +82,139 @@ public class UserController {
     }
 
     /**
-     * 更新使用者個人資料 API
+     * 批次註冊 API
+     *
+     * 每筆資料套用與單筆註冊相同的驗證，驗證失敗的資料不會中斷整個請求，
+     * 而是列在回應的 errors 中（index 為資料在清單中的位置）
+     *
+     * @param requests 使用者註冊請求清單
+     * @return 批次註冊結果
+     */
+    @PostMapping("/register/batch")
+    public ResponseEntity<BatchRegistrationResponse> registerUsers(
+            @RequestBody List<UserRegistrationRequest> requests) {
+
+        return ResponseEntity.ok(userService.registerUsers(requests));
+    }
+
+    /**
+     * 取得單一使用者 API
+     *
+     * 回應帶有以 User.version 產生的強 ETag；請求帶有 If-None-Match 時，
+     * 先只查詢版本，版本未變更時直接回應 304，不查詢其他欄位
+     *
+     * @param userId     使用者 ID
+     * @param webRequest 用於比對 If-None-Match
+     * @return 使用者資訊；未變更時為 304（無內容）
+     */
+    @GetMapping("/{userId}")
+    public ResponseEntity<UserResponse> getUser(@PathVariable Long userId, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(etag(userService.getUserVersion(userId)))) {
+            // checkNotModified 已設定 304 狀態與 ETag 標頭
+            return null;
+        }
+
+        UserSnapshot user = userService.getUser(userId);
+        return ResponseEntity.ok()
+                .eTag(etag(user.version()))
+                .cacheControl(CacheControl.noCache())
+                .body(user.toResponse());
+    }
+
+    /**
+     * 多筆使用者查詢 API
+     *
+     * 以一次請求、一次資料庫查詢取得多位使用者，例如 GET /api/users?ids=1,2,3
+     * 結果依 ids 的順序排列，找不到的使用者以 found = false 表示
+     *
+     * @param ids 使用者 ID（以逗號分隔，數量上限為 app.users.multi-get-max-ids）
+     * @return 查詢結果
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<UserLookupResponse> getUsers(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(userService.getUsers(ids));
+    }
+
+    /**
+     * 使用者列表 API（keyset 分頁）
+     *
+     * 依建立時間由新到舊排序；取得下一頁時帶入上一頁回應的 nextCursor，
+     * 並使用相同的篩選條件
+     *
+     * @param cursor      分頁游標（第一頁不需要）
+     * @param limit       每頁筆數（1-100）
+     * @param minAge      最小年齡（含）
+     * @param maxAge      最大年齡（含）
+     * @param createdFrom 建立時間起（含），ISO 格式，例如 2024-01-01T00:00:00
+     * @param createdTo   建立時間迄（不含）
+     * @return 本頁的使用者與下一頁的游標
+     */
+    @GetMapping
+    public ResponseEntity<UserPageResponse> listUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Integer minAge,
+            @RequestParam(required = false) Integer maxAge,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+
+        UserSearchCriteria criteria = new UserSearchCriteria(minAge, maxAge, createdFrom, createdTo);
+        return ResponseEntity.ok(userService.listUsers(criteria, cursor, limit));
+    }
+
+    /**
+     * 匯出所有使用者 API
      *
-     * 展示情境：
-     * 1. Controller 先從 UserService 取得使用者資料
-     * 2. 將資料包裝成 UserDataTransfer（帶有驗證註解）
-     * 3. 傳入 ProfileService，Service 層會自動驗證資料完整性
+     * 以串流方式邊查詢邊寫入回應，記憶體用量與資料量無關；匯出內容不含密碼
      *
-     * 重點：即使資料來自內部 Service，仍可確保資料的完整性
+     * @param format  匯出格式：ndjson 或 csv
+     * @param request HTTP 請求（設定串流逾時）
+     * @return 串流回應
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingTimeoutInterceptor.setTimeout(request, streamingProperties.getExportTimeout());
+        StreamingResponseBody body = output -> userExportService.export(exportFormat, output);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + exportFormat.extension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * 更新使用者個人資料 API
+     *
+     * 讀取、驗證與寫入由 ProfileService.updatePhone 在單一交易內完成：
+     * 只驗證來自請求的 newPhone，資料庫中的使用者資料不再重新驗證
      *
      * @param userId 使用者 ID
      * @param newPhone 新的電話號碼
-     * @return 更新結果訊息
+     * @return 更新結果（ETag 為更新後的版本）
      */
     @PutMapping("/{userId}/profile")
-    public ResponseEntity<String> updateProfile(
+    public ResponseEntity<ProfileUpdateResponse> updateProfile(
             @PathVariable Long userId,
             @RequestParam String newPhone) {
 
-        // 步驟 1: 從 UserService 取得使用者資料
-        UserDataTransfer userData = userService.getUserData(userId);
+        // 單一交易完成寫入與讀回；ProfileService 介面上的約束會驗證 newPhone
+        ProfileUpdateResponse response = profileService.updatePhone(userId, newPhone);
 
-        // 步驟 2: 將資料傳入 ProfileService
-        // ProfileService 的方法參數有 @Valid，會自動驗證 userData
-        // 如果 userData 的任何必要欄位為 null，會拋出 ConstraintViolationException
-        String result = profileService.updateProfile(userData, newPhone);
+        return ResponseEntity.ok()
+                .eTag(etag(response.version()))
+                .body(response);
+    }
 
-        return ResponseEntity.ok(result);
+    /**
+     * 以版本產生強 ETag
+     */
+    private static String etag(long version) {
+        return "\"" + version + "\"";
     }
 
     /**
@@ -84,11 +227,11 @@ public class UserController {
      */
     @PostMapping("/vip/validate")
     public ResponseEntity<String> validateVip(@Valid @RequestBody UserVipRequest request) {
-        // @Valid 會自動觸發 @AssertTrue 驗證
+        // @Valid 會自動觸發類別上的約束
         // 驗證規則：
-        // 1. isValidVipDiscount() - VIP 等級與折扣率必須對應
-        // 2. isValidPlatinumAge() - 白金卡必須年滿 30 歲
-        // 3. isValidDiscountRange() - 折扣率必須在 0-100 之間
+        // 1. @VipTierRule(DISCOUNT) - VIP 等級與折扣率必須對應（規則表 vip-tiers.json），錯誤欄位 validVipDiscount
+        // 2. @VipTierRule(MINIMUM_AGE) - 年齡必須達到等級的最低年齡（例如白金卡 30 歲），錯誤欄位 validPlatinumAge
+        // 3. @Rule - 折扣率必須在 0-100 之間（啟動時編譯的規則運算式）
 
         return ResponseEntity.ok(
             String.format("驗證通過！使用者: %s, VIP等級: %d, 折扣率: %d%%",
@@ -97,4 +240,51 @@ public class UserController {
                 request.discountRate())
         );
     }
+
+    /**
+     * 批次 VIP 會員驗證 API
+     *
+     * 每筆資料套用與 /vip/validate 相同的約束，在 ForkJoinPool 上平行驗證；
+     * 回應依請求順序列出每筆的 index、valid 與違反的規則（「欄位:約束」）。
+     * 請求內容（UserVipRequest 的 JSON 陣列）逐筆解析，超過 app.vip.batch-max-size 時在讀完前就回應 400；
+     * 結果以串流寫出，不建立整份回應物件
+     *
+     * @param request HTTP 請求（直接讀取請求內容）
+     * @return 串流回應，內容為 {"total", "passed", "failed", "results"}
+     */
+    @PostMapping("/vip/validate/batch")
+    public ResponseEntity<StreamingResponseBody> validateVipBatch(HttpServletRequest request) throws IOException {
+        VipBatchValidationResponse result = vipValidationService.validateBatch(request.getInputStream());
+        StreamingTimeoutInterceptor.setTimeout(request, streamingProperties.getValidationTimeout());
+        StreamingResponseBody body = output -> vipValidationService.writeBatch(result, output);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 串流驗證 API
+     *
+     * 請求內容為 NDJSON（每行一筆資料），不先反序列化整份內容：
+     * 每讀到一行就驗證並以 NDJSON 寫回結果（chunked 傳輸），記憶體用量與資料量無關
+     *
+     * @param type    每行資料的型別：vip（UserVipRequest）或 registration（UserRegistrationRequest）
+     * @param request HTTP 請求（直接讀取請求內容）
+     * @return 串流回應，每行為一筆 StreamValidationResult
+     */
+    @PostMapping(value = "/validate/stream", consumes = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> validateStream(
+            @RequestParam String type,
+            HttpServletRequest request) throws IOException {
+
+        StreamValidationType validationType = StreamValidationType.from(type);
+        StreamingTimeoutInterceptor.setTimeout(request, streamingProperties.getValidationTimeout());
+        ServletInputStream input = request.getInputStream();
+        StreamingResponseBody body = output -> streamValidationService.validate(validationType, input, output);
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,80 @@
+package com.example.validation.controller;
+
+import com.example.validation.imports.ImportFormat;
+import com.example.validation.model.dto.response.ImportJobResponse;
+import com.example.validation.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * 使用者匯入 Controller
+ *
+ * 從其他系統搬移使用者時，以檔案一次匯入，取代逐筆呼叫 /api/users/register
+ */
+@RestController
+@RequestMapping("/api/users/imports")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final UserImportService userImportService;
+
+    /**
+     * 上傳檔案並開始匯入 API
+     *
+     * 請求內容直接為檔案內容（不使用 multipart），匯入在背景執行，
+     * 回應 202 與匯入工作的位置，可透過 GET 查詢進度
+     *
+     * @param format  檔案格式：csv 或 ndjson
+     * @param content 檔案內容
+     * @return 匯入工作
+     */
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> startImport(
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream content) throws IOException {
+
+        ImportJobResponse job = userImportService.startImport(content, ImportFormat.from(format));
+
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/users/imports/" + job.id()))
+                .body(job);
+    }
+
+    /**
+     * 查詢匯入進度 API
+     *
+     * @param jobId 匯入工作 ID
+     * @return 目前進度（已讀取位元組、筆數、成功與失敗數、每秒筆數）
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(userImportService.getJob(jobId));
+    }
+
+    /**
+     * 下載錯誤報告 API
+     *
+     * 每行一個 JSON：{"line": 行號, "errors": {欄位: 訊息}}；
+     * 匯入期間可重複下載，取得目前為止的錯誤
+     *
+     * @param jobId 匯入工作 ID
+     * @return NDJSON 錯誤報告
+     */
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<Resource> getErrorReport(@PathVariable String jobId) {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(new FileSystemResource(userImportService.getErrorReport(jobId)));
+    }
+}
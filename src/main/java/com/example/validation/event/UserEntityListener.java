@@ -0,0 +1,28 @@
+package com.example.validation.event;
+
+import com.example.validation.model.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * User 實體的 JPA 監聽器：實體更新或刪除時發布 UserUpdatedEvent
+ *
+ * 由 Hibernate 透過 Spring 的 BeanContainer 建立，因此可以注入 Spring Bean
+ *
+ * 注意：JPQL 批次更新（@Modifying）不會觸發此監聽器，呼叫端需自行發布事件
+ */
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        eventPublisher.publishEvent(new UserUpdatedEvent(user.getId()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.validation.event;
+
+/**
+ * 使用者註冊事件
+ *
+ * 由 UserService 在註冊交易中發布，
+ * 監聽者應使用 @TransactionalEventListener 在交易提交後才處理
+ *
+ * @param userId 新使用者 ID
+ * @param email  新使用者 Email
+ */
+public record UserRegisteredEvent(
+    Long userId,
+    String email
+) {
+}
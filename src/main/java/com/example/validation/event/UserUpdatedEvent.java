@@ -0,0 +1,12 @@
+package com.example.validation.event;
+
+/**
+ * 使用者資料已變更事件
+ *
+ * 由 UserEntityListener（實體更新或刪除）或批次更新的呼叫端發布，
+ * 監聽者應使用 @TransactionalEventListener，在交易提交後才處理
+ *
+ * @param userId 使用者 ID
+ */
+public record UserUpdatedEvent(Long userId) {
+}
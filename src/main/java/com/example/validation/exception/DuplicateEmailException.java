@@ -0,0 +1,20 @@
+package com.example.validation.exception;
+
+import lombok.Getter;
+
+/**
+ * Email 重複異常
+ *
+ * 註冊時資料庫唯一約束（uk_users_email）拒絕寫入時拋出，
+ * 由 GlobalExceptionHandler 轉換為與 @UniqueEmail 相同的欄位錯誤
+ */
+@Getter
+public class DuplicateEmailException extends BusinessException {
+
+    private final String email;
+
+    public DuplicateEmailException(String email, Throwable cause) {
+        super("Email 已被註冊", cause);
+        this.email = email;
+    }
+}
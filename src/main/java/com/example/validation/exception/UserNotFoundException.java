@@ -0,0 +1,19 @@
+package com.example.validation.exception;
+
+import lombok.Getter;
+
+/**
+ * 找不到使用者異常
+ *
+ * 由 GlobalExceptionHandler 轉換為 404
+ */
+@Getter
+public class UserNotFoundException extends BusinessException {
+
+    private final Long userId;
+
+    public UserNotFoundException(Long userId) {
+        super("找不到使用者，ID: " + userId);
+        this.userId = userId;
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.validation.exception.handler;
 
 import com.example.validation.exception.BusinessException;
+import com.example.validation.exception.DuplicateEmailException;
+import com.example.validation.exception.UserNotFoundException;
 import com.example.validation.model.dto.response.ErrorResponse;
-import jakarta.validation.ConstraintViolation;
+import com.example.validation.validation.ValidationResult;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -11,7 +13,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -38,10 +40,10 @@ public class GlobalExceptionHandler {
 
         log.warn("Controller 層驗證失敗: {}", ex.getMessage());
 
-        // 收集所有欄位的驗證錯誤
-        Map<String, String> errors = new HashMap<>();
+        // 收集所有欄位的驗證錯誤（依驗證順序，同一欄位保留第一個錯誤）
+        Map<String, String> errors = new LinkedHashMap<>();
         ex.getBindingResult().getFieldErrors().forEach(error ->
-            errors.put(error.getField(), error.getDefaultMessage())
+            errors.putIfAbsent(error.getField(), error.getDefaultMessage())
         );
 
         ErrorResponse errorResponse = new ErrorResponse("驗證失敗", errors);
@@ -66,22 +68,66 @@ public class GlobalExceptionHandler {
 
         log.warn("Service 層驗證失敗: {}", ex.getMessage());
 
-        // 收集所有驗證錯誤
-        Map<String, String> errors = new HashMap<>();
-        for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
-            // 取得欄位名稱（去除方法名稱前綴）
-            String propertyPath = violation.getPropertyPath().toString();
-            String fieldName = propertyPath.substring(propertyPath.lastIndexOf('.') + 1);
-            errors.put(fieldName, violation.getMessage());
-        }
+        // 欄位名稱取自屬性路徑的最後一個參數或屬性節點（去除方法名稱前綴）
+        ValidationResult result = ValidationResult.of(ex.getConstraintViolations());
 
-        ErrorResponse errorResponse = new ErrorResponse("驗證失敗", errors);
+        return validationFailed(result);
+    }
+
+    /**
+     * 將驗證結果轉換為與 @Valid 驗證失敗相同格式的錯誤回應
+     */
+    private ResponseEntity<ErrorResponse> validationFailed(ValidationResult result) {
+        ErrorResponse errorResponse = new ErrorResponse("驗證失敗", result.errors());
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(errorResponse);
+    }
+
+    /**
+     * 處理 Email 重複異常
+     *
+     * 並發註冊時 @UniqueEmail 可能都通過，由資料庫唯一約束擋下的請求
+     * 回傳與 @UniqueEmail 相同格式的欄位錯誤，而不是 500
+     *
+     * @param ex Email 重複異常
+     * @return 錯誤回應
+     */
+    @ExceptionHandler(DuplicateEmailException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateEmailException(DuplicateEmailException ex) {
+        log.warn("Email 已被註冊: {}", ex.getEmail());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            "驗證失敗",
+            Map.of("email", ex.getMessage())
+        );
 
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(errorResponse);
     }
 
+    /**
+     * 處理找不到使用者異常
+     *
+     * @param ex 找不到使用者異常
+     * @return 404 錯誤回應
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFoundException ex) {
+        log.warn("找不到使用者: {}", ex.getUserId());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            Map.of()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(errorResponse);
+    }
+
     /**
      * 處理業務異常
      *
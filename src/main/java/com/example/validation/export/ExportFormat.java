@@ -0,0 +1,52 @@
+package com.example.validation.export;
+
+import com.example.validation.exception.BusinessException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * 匯出檔案格式
+ */
+public enum ExportFormat {
+
+    /**
+     * 每行一個 JSON 物件
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * CSV，第一行為欄位名稱
+     */
+    CSV("text/csv", "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * 依名稱取得格式（不分大小寫）
+     *
+     * @param name 格式名稱，例如 csv、ndjson
+     * @return 匯出格式
+     */
+    public static ExportFormat from(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("不支援的匯出格式: " + name);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.validation.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 以固定大小的緩衝區逐段讀取檔案並切分為行
+ *
+ * 記憶體用量只與緩衝區大小與單行長度有關，與檔案大小無關；
+ * 以 '\n' 切分位元組，UTF-8 的多位元組字元不會被切斷。
+ * 也可以讀取任意 Channel（例如以 Channels.newChannel 包裝的請求內容）
+ */
+public final class ChunkedLineReader implements Closeable {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final int maxLineLength;
+
+    private byte[] line;
+    private int lineLength;
+    private long position;
+    private boolean firstLine = true;
+    private boolean endOfFile;
+
+    /**
+     * @param file          檔案路徑
+     * @param bufferSize    每次從檔案讀取的位元組數
+     * @param maxLineLength 單行最大位元組數，超過時拋出 LineTooLongException
+     */
+    public ChunkedLineReader(Path file, int bufferSize, int maxLineLength) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.READ), bufferSize, maxLineLength);
+    }
+
+    /**
+     * @param channel       來源 Channel，關閉讀取器時一併關閉
+     * @param bufferSize    每次從 Channel 讀取的位元組數
+     * @param maxLineLength 單行最大位元組數，超過時拋出 LineTooLongException
+     */
+    public ChunkedLineReader(ReadableByteChannel channel, int bufferSize, int maxLineLength) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).flip();
+        this.maxLineLength = maxLineLength;
+        this.line = new byte[Math.min(256, maxLineLength)];
+    }
+
+    /**
+     * 讀取下一行（不含行尾的 \r\n 或 \n）
+     *
+     * @return 下一行；已到檔案結尾時回傳 null
+     * @throws LineTooLongException 行的長度超過上限
+     */
+    public String readLine() throws IOException {
+        while (true) {
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                position++;
+                if (b == '\n') {
+                    return takeLine();
+                }
+                append(b);
+            }
+            if (endOfFile) {
+                return lineLength > 0 ? takeLine() : null;
+            }
+            buffer.clear();
+            endOfFile = channel.read(buffer) < 0;
+            buffer.flip();
+        }
+    }
+
+    /**
+     * @return 目前已讀取的位元組數（用於計算進度）
+     */
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void append(byte b) throws IOException {
+        if (lineLength == line.length) {
+            if (lineLength >= maxLineLength) {
+                throw new LineTooLongException(position, maxLineLength);
+            }
+            line = Arrays.copyOf(line, Math.min(line.length * 2, maxLineLength));
+        }
+        line[lineLength++] = b;
+    }
+
+    private String takeLine() {
+        int start = 0;
+        int end = lineLength;
+        // 檔案第一行：略過 UTF-8 BOM
+        if (firstLine && end >= 3 && Arrays.equals(line, 0, 3, UTF8_BOM, 0, 3)) {
+            start = 3;
+        }
+        firstLine = false;
+        if (end > start && line[end - 1] == '\r') {
+            end--;
+        }
+        lineLength = 0;
+        return new String(line, start, end - start, StandardCharsets.UTF_8);
+    }
+}
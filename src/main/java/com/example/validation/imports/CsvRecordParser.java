@@ -0,0 +1,105 @@
+package com.example.validation.imports;
+
+import com.example.validation.model.dto.request.UserRegistrationRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV 解析器
+ *
+ * 規則：
+ * 1. 第一行為欄位名稱，支援 name、email、age、password，順序不限，其他欄位忽略
+ * 2. 欄位可用雙引號包住，引號內的 "" 代表一個雙引號
+ * 3. 不支援欄位內換行（匯入流程以行為單位平行處理）
+ */
+public class CsvRecordParser implements RecordParser {
+
+    private final int nameColumn;
+    private final int emailColumn;
+    private final int ageColumn;
+    private final int passwordColumn;
+
+    private CsvRecordParser(List<String> header) {
+        List<String> columns = header.stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        this.nameColumn = columns.indexOf("name");
+        this.emailColumn = columns.indexOf("email");
+        this.ageColumn = columns.indexOf("age");
+        this.passwordColumn = columns.indexOf("password");
+    }
+
+    /**
+     * 以欄位名稱行建立解析器
+     *
+     * @param headerLine CSV 第一行
+     * @return CSV 解析器
+     */
+    public static CsvRecordParser fromHeader(String headerLine) throws RecordParseException {
+        CsvRecordParser parser = new CsvRecordParser(split(headerLine));
+        if (parser.emailColumn < 0) {
+            throw new RecordParseException("header", "CSV 欄位名稱必須包含 email");
+        }
+        return parser;
+    }
+
+    @Override
+    public UserRegistrationRequest parse(String line) throws RecordParseException {
+        List<String> values = split(line);
+        String age = column(values, ageColumn);
+        return new UserRegistrationRequest(
+            column(values, nameColumn),
+            column(values, emailColumn),
+            parseAge(age),
+            column(values, passwordColumn)
+        );
+    }
+
+    private static Integer parseAge(String age) throws RecordParseException {
+        if (age == null || age.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(age.trim());
+        } catch (NumberFormatException e) {
+            throw new RecordParseException("age", "年齡必須是整數");
+        }
+    }
+
+    private static String column(List<String> values, int index) {
+        return index >= 0 && index < values.size() ? values.get(index) : null;
+    }
+
+    private static List<String> split(String line) throws RecordParseException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new RecordParseException("record", "CSV 引號未關閉");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
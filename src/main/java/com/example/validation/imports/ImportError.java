@@ -0,0 +1,15 @@
+package com.example.validation.imports;
+
+import java.util.Map;
+
+/**
+ * 錯誤報告（NDJSON）中的一行
+ *
+ * @param line   匯入檔案中的行號（從 1 開始）
+ * @param errors 欄位名稱與錯誤訊息
+ */
+public record ImportError(
+    long line,
+    Map<String, String> errors
+) {
+}
@@ -0,0 +1,35 @@
+package com.example.validation.imports;
+
+import com.example.validation.exception.BusinessException;
+
+import java.util.Locale;
+
+/**
+ * 匯入檔案格式
+ */
+public enum ImportFormat {
+
+    /**
+     * CSV，第一行為欄位名稱（name,email,age,password，順序不限）
+     */
+    CSV,
+
+    /**
+     * 每行一個 JSON 物件（欄位與 UserRegistrationRequest 相同）
+     */
+    NDJSON;
+
+    /**
+     * 依名稱取得格式（不分大小寫）
+     *
+     * @param name 格式名稱，例如 csv、ndjson
+     * @return 匯入格式
+     */
+    public static ImportFormat from(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("不支援的匯入格式: " + name);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.validation.imports;
+
+import com.example.validation.model.dto.response.ImportJobResponse;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 匯入工作的狀態與進度
+ *
+ * 由匯入執行緒更新，查詢進度的請求執行緒讀取
+ */
+public class ImportJob {
+
+    @Getter
+    private final String id;
+    @Getter
+    private final ImportFormat format;
+    @Getter
+    private final Path reportFile;
+    private final long totalBytes;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String message;
+
+    public ImportJob(String id, ImportFormat format, long totalBytes, Path reportFile) {
+        this.id = id;
+        this.format = format;
+        this.totalBytes = totalBytes;
+        this.reportFile = reportFile;
+    }
+
+    public void start() {
+        startedAt = Instant.now();
+        status = ImportJobStatus.RUNNING;
+    }
+
+    /**
+     * 記錄一段資料的處理結果
+     */
+    public void progress(long position, int recordCount, int importedCount, int failedCount) {
+        bytesRead.set(position);
+        records.addAndGet(recordCount);
+        imported.addAndGet(importedCount);
+        failed.addAndGet(failedCount);
+    }
+
+    public void complete() {
+        bytesRead.set(totalBytes);
+        finishedAt = Instant.now();
+        status = ImportJobStatus.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        message = reason;
+        finishedAt = Instant.now();
+        status = ImportJobStatus.FAILED;
+    }
+
+    /**
+     * @param cutoff 保留期限的起點
+     * @return 工作已結束且結束時間早於 cutoff
+     */
+    public boolean finishedBefore(Instant cutoff) {
+        Instant end = finishedAt;
+        return end != null && end.isBefore(cutoff);
+    }
+
+    /**
+     * @return 目前進度的快照
+     */
+    public ImportJobResponse snapshot() {
+        long read = bytesRead.get();
+        long recordCount = records.get();
+        Instant start = startedAt;
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = start == null ? 0 : Duration.between(start, end).toMillis() / 1000.0;
+        return new ImportJobResponse(
+            id,
+            status,
+            format,
+            totalBytes,
+            read,
+            totalBytes == 0 ? 100.0 : Math.round(read * 1000.0 / totalBytes) / 10.0,
+            recordCount,
+            imported.get(),
+            failed.get(),
+            seconds > 0 ? Math.round(recordCount / seconds) : 0,
+            start,
+            finishedAt,
+            message
+        );
+    }
+}
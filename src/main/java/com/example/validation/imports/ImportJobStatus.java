@@ -0,0 +1,11 @@
+package com.example.validation.imports;
+
+/**
+ * 匯入工作狀態
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
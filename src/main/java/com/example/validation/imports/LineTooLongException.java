@@ -0,0 +1,26 @@
+package com.example.validation.imports;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * ChunkedLineReader 讀到的行超過單行長度上限
+ *
+ * 拋出後讀取器停在該行中間，不能再繼續讀取
+ */
+@Getter
+public class LineTooLongException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 單行最大位元組數
+     */
+    private final int maxLineLength;
+
+    public LineTooLongException(long position, int maxLineLength) {
+        super("第 " + position + " 個位元組所在的行超過 " + maxLineLength + " bytes");
+        this.maxLineLength = maxLineLength;
+    }
+}
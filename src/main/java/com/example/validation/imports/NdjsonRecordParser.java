@@ -0,0 +1,46 @@
+package com.example.validation.imports;
+
+import com.example.validation.model.dto.request.UserRegistrationRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.util.List;
+
+/**
+ * NDJSON 解析器：每行一個 JSON 物件
+ */
+public class NdjsonRecordParser implements RecordParser {
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonRecordParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public UserRegistrationRequest parse(String line) throws RecordParseException {
+        return parse(line, UserRegistrationRequest.class);
+    }
+
+    /**
+     * 將一行 JSON 解析為指定型別，錯誤回報方式與 {@link #parse(String)} 相同
+     *
+     * @param line 一行 JSON
+     * @param type 目標型別
+     * @return 解析結果
+     */
+    public <T> T parse(String line, Class<T> type) throws RecordParseException {
+        try {
+            return objectMapper.readValue(line, type);
+        } catch (InvalidFormatException e) {
+            // 例如 "age": "abc"，回報在對應的欄位上
+            List<JsonMappingException.Reference> path = e.getPath();
+            String field = path.isEmpty() ? "record" : path.get(path.size() - 1).getFieldName();
+            throw new RecordParseException(field, "格式不正確");
+        } catch (JsonProcessingException e) {
+            throw new RecordParseException("record", "JSON 格式錯誤: " + e.getOriginalMessage());
+        }
+    }
+}
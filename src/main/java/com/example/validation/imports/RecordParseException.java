@@ -0,0 +1,26 @@
+package com.example.validation.imports;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 匯入或串流驗證的資料無法解析（例如 JSON 格式錯誤、欄位型別不符）
+ */
+@Getter
+public class RecordParseException extends Exception {
+
+    /**
+     * 欄位名稱與錯誤訊息；無法對應到欄位時使用 "record"
+     */
+    private final Map<String, String> errors;
+
+    public RecordParseException(Map<String, String> errors) {
+        super(errors.toString());
+        this.errors = errors;
+    }
+
+    public RecordParseException(String field, String message) {
+        this(Map.of(field, message));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.validation.imports;
+
+import com.example.validation.model.dto.request.UserRegistrationRequest;
+
+/**
+ * 將匯入檔案的一行解析為註冊請求
+ *
+ * 實作必須是執行緒安全的，匯入流程會在多個執行緒平行解析
+ */
+public interface RecordParser {
+
+    /**
+     * @param line 一行資料（不含行尾）
+     * @return 註冊請求
+     * @throws RecordParseException 無法解析時
+     */
+    UserRegistrationRequest parse(String line) throws RecordParseException;
+}
@@ -0,0 +1,220 @@
+package com.example.validation.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 以記憶體映射檔案儲存的 Bloom Filter
+ *
+ * 檔案格式：64 bytes 標頭 + 位元陣列
+ * - 位元以 long 為單位透過 VarHandle 做 CAS 更新，允許多執行緒同時寫入
+ * - 開啟時標記為「使用中」，正常關閉時才標記為「完整」；
+ *   異常結束留下的檔案不會被重新使用，以免漏掉最後寫入的位元
+ */
+final class BloomFilter implements Closeable {
+
+    private static final int MAGIC = 0x45424C4D;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+
+    private static final int OFFSET_MAGIC = 0;
+    private static final int OFFSET_VERSION = 4;
+    private static final int OFFSET_HASH_FUNCTIONS = 8;
+    private static final int OFFSET_CLEAN = 12;
+    private static final int OFFSET_BIT_COUNT = 16;
+    private static final int OFFSET_EXPECTED_INSERTIONS = 24;
+    private static final int OFFSET_FALSE_POSITIVE_RATE = 32;
+    private static final int OFFSET_INSERTIONS = 40;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final AtomicLong insertions;
+
+    private BloomFilter(FileChannel channel, MappedByteBuffer buffer, long bitCount, int hashFunctions,
+                        long expectedInsertions, double falsePositiveRate, long insertions) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.bitCount = bitCount;
+        this.hashFunctions = hashFunctions;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.insertions = new AtomicLong(insertions);
+    }
+
+    /**
+     * 建立新的（空的）Bloom Filter 檔案，已存在的檔案會被覆寫
+     *
+     * @param file               檔案路徑
+     * @param expectedInsertions 預期元素數量
+     * @param falsePositiveRate  目標誤判率
+     */
+    static BloomFilter create(Path file, long expectedInsertions, double falsePositiveRate) throws IOException {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions 必須大於 0，falsePositiveRate 必須介於 0 與 1 之間");
+        }
+        // m = -n * ln(p) / (ln 2)^2，k = m / n * ln 2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long bitCount = Math.max(64, (bits + 63) / 64 * 64);
+        int hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        long size = HEADER_BYTES + bitCount / 8;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom Filter 超過單一映射檔案上限（2 GB），請調整預期數量或誤判率");
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(OFFSET_MAGIC, MAGIC);
+        buffer.putInt(OFFSET_VERSION, VERSION);
+        buffer.putInt(OFFSET_HASH_FUNCTIONS, hashFunctions);
+        buffer.putInt(OFFSET_CLEAN, 0);
+        buffer.putLong(OFFSET_BIT_COUNT, bitCount);
+        buffer.putLong(OFFSET_EXPECTED_INSERTIONS, expectedInsertions);
+        buffer.putDouble(OFFSET_FALSE_POSITIVE_RATE, falsePositiveRate);
+        buffer.putLong(OFFSET_INSERTIONS, 0);
+        buffer.force();
+        return new BloomFilter(channel, buffer, bitCount, hashFunctions, expectedInsertions, falsePositiveRate, 0);
+    }
+
+    /**
+     * 開啟先前正常關閉的 Bloom Filter 檔案
+     *
+     * @return 檔案不存在、格式不符、誤判率不同或未正常關閉時回傳 null
+     */
+    static BloomFilter openExisting(Path file, double falsePositiveRate) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) < HEADER_BYTES) {
+            return null;
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        long bitCount = buffer.getLong(OFFSET_BIT_COUNT);
+        boolean usable = buffer.getInt(OFFSET_MAGIC) == MAGIC
+                && buffer.getInt(OFFSET_VERSION) == VERSION
+                && buffer.getInt(OFFSET_CLEAN) == 1
+                && buffer.getDouble(OFFSET_FALSE_POSITIVE_RATE) == falsePositiveRate
+                && channel.size() == HEADER_BYTES + bitCount / 8;
+        if (!usable) {
+            channel.close();
+            return null;
+        }
+
+        buffer.putInt(OFFSET_CLEAN, 0);
+        buffer.force();
+        return new BloomFilter(channel, buffer, bitCount, buffer.getInt(OFFSET_HASH_FUNCTIONS),
+                buffer.getLong(OFFSET_EXPECTED_INSERTIONS), falsePositiveRate, buffer.getLong(OFFSET_INSERTIONS));
+    }
+
+    boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!getBit(Math.floorMod(hash1 + i * hash2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, bitCount));
+        }
+        insertions.incrementAndGet();
+    }
+
+    long insertions() {
+        return insertions.get();
+    }
+
+    long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * 依目前的插入數量估算誤判率：(1 - e^(-kn/m))^k
+     */
+    double estimatedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions.get() / bitCount), hashFunctions);
+    }
+
+    /**
+     * 將位元陣列與插入數量寫回磁碟
+     */
+    void flush() {
+        buffer.putLong(OFFSET_INSERTIONS, insertions.get());
+        buffer.force();
+    }
+
+    /**
+     * 寫回磁碟並標記為完整，下次啟動可直接使用
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        buffer.putInt(OFFSET_CLEAN, 1);
+        buffer.force();
+        channel.close();
+    }
+
+    private boolean getBit(long index) {
+        long word = (long) LONGS.getVolatile(buffer, wordOffset(index));
+        return (word & (1L << index)) != 0;
+    }
+
+    private void setBit(long index) {
+        int offset = wordOffset(index);
+        long mask = 1L << index;
+        long word;
+        do {
+            word = (long) LONGS.getVolatile(buffer, offset);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!LONGS.compareAndSet(buffer, offset, word, word | mask));
+    }
+
+    private static int wordOffset(long bitIndex) {
+        return HEADER_BYTES + (int) ((bitIndex >>> 6) << 3);
+    }
+
+    /**
+     * FNV-1a 64 位元雜湊，再經過 SplitMix64 混合以改善分布
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,317 @@
+package com.example.validation.index;
+
+import com.example.validation.config.EmailIndexProperties;
+import com.example.validation.event.UserRegisteredEvent;
+import com.example.validation.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 以 Bloom Filter 實作的 Email 索引，適用於 Email 數量多到無法整份放進 Heap 的情況
+ *
+ * 重點：
+ * 1. Bloom Filter 回答「不存在」是確定的，直接回傳 ABSENT，不查詢資料庫
+ * 2. 回答「可能存在」時回傳 UNKNOWN，由呼叫端查詢資料庫確認
+ * 3. 位元陣列存放在記憶體映射檔案，正常關閉後重新啟動不需要重新掃描 users 資料表
+ * 4. 檔案不可用、容量用盡或到達重建間隔時，在背景執行緒重建；重建期間沿用舊的 Filter
+ *
+ * 檔案以世代編號命名（email-bloom-{世代}.bin），重建時寫入新檔案再切換，
+ * 避免覆寫仍在映射中的檔案
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.email-index", name = "type", havingValue = "bloom")
+@Slf4j
+public class BloomFilterEmailIndex implements EmailExistenceIndex, DisposableBean {
+
+    private static final String FILE_PREFIX = "email-bloom-";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EmailIndexProperties.Bloom properties;
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "email-bloom-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * 目前使用中的 Filter；尚未可用時為 null
+     */
+    private volatile BloomFilter current;
+
+    /**
+     * 重建中的 Filter；重建期間新註冊的 Email 也要寫入，切換後才不會遺漏
+     */
+    private volatile BloomFilter building;
+
+    private long generation;
+
+    private final Counter absentLookups;
+    private final Counter maybeLookups;
+    private final Counter falsePositives;
+
+    public BloomFilterEmailIndex(UserRepository userRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 EmailIndexProperties emailIndexProperties,
+                                 MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = emailIndexProperties.getBloom();
+
+        this.absentLookups = Counter.builder("email.index.bloom.lookups")
+                .description("Bloom Filter 查詢次數")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.maybeLookups = Counter.builder("email.index.bloom.lookups")
+                .description("Bloom Filter 查詢次數")
+                .tag("result", "maybe")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("email.index.bloom.false-positives")
+                .description("回答「可能存在」但資料庫查無此 Email 的次數")
+                .register(meterRegistry);
+        Gauge.builder("email.index.bloom.hit-ratio", this, BloomFilterEmailIndex::hitRatio)
+                .description("不需查詢資料庫的查詢比例")
+                .register(meterRegistry);
+        Gauge.builder("email.index.bloom.false-positive-ratio", this, BloomFilterEmailIndex::falsePositiveRatio)
+                .description("「可能存在」的查詢中實際不存在的比例")
+                .register(meterRegistry);
+        Gauge.builder("email.index.bloom.estimated-false-positive-rate", this, BloomFilterEmailIndex::estimatedFalsePositiveRate)
+                .description("依目前插入數量估算的誤判率")
+                .register(meterRegistry);
+        Gauge.builder("email.index.bloom.insertions", this, BloomFilterEmailIndex::insertions)
+                .description("目前 Filter 的插入數量")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public EmailLookup lookup(String email) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            return EmailLookup.UNKNOWN;
+        }
+        if (!filter.mightContain(EmailExistenceIndex.normalize(email))) {
+            absentLookups.increment();
+            return EmailLookup.ABSENT;
+        }
+        maybeLookups.increment();
+        return EmailLookup.UNKNOWN;
+    }
+
+    @Override
+    public void recordDatabaseResult(String email, boolean exists) {
+        if (exists) {
+            add(email);
+            return;
+        }
+        // 只有 Filter 回答「可能存在」的 Email 才算誤判；先寫入模式下成功的 INSERT 也會回報到這裡
+        BloomFilter filter = current;
+        if (filter != null && filter.mightContain(EmailExistenceIndex.normalize(email))) {
+            falsePositives.increment();
+        }
+    }
+
+    @Override
+    public void add(String email) {
+        String normalized = EmailExistenceIndex.normalize(email);
+        // 先讀 building 再讀 current：切換順序為 current = next 之後才清除 building，
+        // 因此不論何時讀取，新的 Filter 都一定會收到這筆 Email（或由重建時的掃描涵蓋）
+        BloomFilter next = building;
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(normalized);
+            if (filter.insertions() > filter.expectedInsertions()) {
+                rebuildAsync();
+            }
+        }
+        if (next != null && next != filter) {
+            next.put(normalized);
+        }
+    }
+
+    /**
+     * 啟動完成後開啟上次正常關閉的檔案；檔案不可用時在背景重建
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void open() {
+        try {
+            Path latest = latestFile();
+            if (latest != null) {
+                generation = generationOf(latest);
+                current = BloomFilter.openExisting(latest, properties.getFalsePositiveRate());
+            }
+        } catch (IOException e) {
+            log.warn("無法開啟 Email Bloom Filter 檔案，將重新建立", e);
+        }
+
+        if (current != null) {
+            log.info("Email Bloom Filter 已從檔案載入，共 {} 筆", current.insertions());
+        } else {
+            rebuildAsync();
+        }
+
+        Duration interval = properties.getRebuildInterval();
+        if (interval != null) {
+            rebuildExecutor.scheduleWithFixedDelay(this::rebuildAsync,
+                    interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 註冊交易提交後加入新的 Email
+     */
+    @TransactionalEventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        add(event.email());
+    }
+
+    /**
+     * 在背景重建 Filter；已有重建在執行時不重複觸發
+     */
+    public void rebuildAsync() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.error("Email Bloom Filter 重建失敗", e);
+                } finally {
+                    building = null;
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        rebuildExecutor.shutdownNow();
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.close();
+        }
+    }
+
+    private void rebuild() throws IOException {
+        long start = System.currentTimeMillis();
+        long expectedInsertions = Math.max(properties.getExpectedInsertions(), userRepository.count() * 2);
+        Path file = properties.getDirectory().resolve(FILE_PREFIX + (generation + 1) + FILE_SUFFIX);
+
+        BloomFilter next = BloomFilter.create(file, expectedInsertions, properties.getFalsePositiveRate());
+        try {
+            building = next;
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> allEmails = userRepository.streamAllEmails()) {
+                    allEmails.forEach(email -> next.put(EmailExistenceIndex.normalize(email)));
+                }
+            });
+            next.flush();
+        } catch (RuntimeException e) {
+            building = null;
+            next.close();
+            throw e;
+        }
+
+        BloomFilter previous = current;
+        current = next;
+        building = null;
+        generation++;
+        if (previous != null) {
+            previous.close();
+        }
+        deleteOlderGenerations();
+        log.info("Email Bloom Filter 重建完成，共 {} 筆，耗時 {} ms",
+                next.insertions(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 刪除舊世代的檔案；仍被映射而無法刪除的檔案（例如 Windows）留到下次重建再處理
+     */
+    private void deleteOlderGenerations() throws IOException {
+        for (Path file : generationFiles()) {
+            if (generationOf(file) < generation) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.debug("暫時無法刪除舊的 Bloom Filter 檔案: {}", file);
+                }
+            }
+        }
+    }
+
+    private Path latestFile() throws IOException {
+        return generationFiles().stream()
+                .max(Comparator.comparingLong(BloomFilterEmailIndex::generationOf))
+                .orElse(null);
+    }
+
+    private List<Path> generationFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(properties.getDirectory())) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+                properties.getDirectory(), FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.removeIf(file -> generationOf(file) < 0);
+        return files;
+    }
+
+    private static long generationOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private double hitRatio() {
+        double absent = absentLookups.count();
+        double total = absent + maybeLookups.count();
+        return total == 0 ? 0 : absent / total;
+    }
+
+    private double falsePositiveRatio() {
+        double maybe = maybeLookups.count();
+        return maybe == 0 ? 0 : falsePositives.count() / maybe;
+    }
+
+    private double estimatedFalsePositiveRate() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.estimatedFalsePositiveRate();
+    }
+
+    private double insertions() {
+        BloomFilter filter = current;
+        return filter == null ? 0 : filter.insertions();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.validation.index;
+
+import java.util.Locale;
+
+/**
+ * Email 是否已存在的索引
+ *
+ * 放在 UserRepository.isEmailRegistered 前面，讓 UniqueEmailValidator
+ * 大多數情況下不需要查詢資料庫
+ */
+public interface EmailExistenceIndex {
+
+    /**
+     * 查詢 Email 是否存在
+     *
+     * @param email Email 地址（不需事先正規化）
+     * @return 查詢結果
+     */
+    EmailLookup lookup(String email);
+
+    /**
+     * 將 Email 加入索引
+     *
+     * @param email Email 地址（不需事先正規化）
+     */
+    void add(String email);
+
+    /**
+     * 回報資料庫對此 Email 的結果，供索引補上遺漏的 Email 並統計誤判率
+     *
+     * 來源可以是 UniqueEmailValidator 的查詢，也可以是先寫入模式下 INSERT 的成敗
+     * （成功表示不存在，違反 uk_users_email 表示已存在）
+     *
+     * @param email  Email 地址
+     * @param exists 資料庫中是否存在
+     */
+    default void recordDatabaseResult(String email, boolean exists) {
+    }
+
+    /**
+     * 正規化 Email：去除前後空白並轉為小寫
+     *
+     * 註冊時以正規化後的值寫入 users.email，資料庫查詢也必須先正規化，
+     * 索引、uk_users_email 與資料庫查詢才會有相同的大小寫規則
+     *
+     * @param email Email 地址
+     * @return 正規化後的 Email
+     */
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
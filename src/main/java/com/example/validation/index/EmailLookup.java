@@ -0,0 +1,22 @@
+package com.example.validation.index;
+
+/**
+ * Email 索引的查詢結果
+ */
+public enum EmailLookup {
+
+    /**
+     * 確定已存在
+     */
+    PRESENT,
+
+    /**
+     * 確定不存在
+     */
+    ABSENT,
+
+    /**
+     * 索引無法確定（例如尚未完成載入），呼叫端需要查詢資料庫
+     */
+    UNKNOWN
+}
@@ -0,0 +1,86 @@
+package com.example.validation.index;
+
+import com.example.validation.event.UserRegisteredEvent;
+import com.example.validation.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 記憶體內的 Email 索引
+ *
+ * 重點：
+ * 1. 應用程式啟動完成後，從 users 資料表載入所有 Email
+ * 2. 註冊交易提交後（AFTER_COMMIT）才加入新的 Email，避免記錄到被回滾的資料
+ * 3. 載入完成前一律回傳 UNKNOWN，由呼叫端改查資料庫
+ *
+ * 注意：索引只包含本機寫入的資料，多台部署時其他節點新增的 Email
+ * 仍需由資料庫的唯一約束把關
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.email-index", name = "type", havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryEmailIndex implements EmailExistenceIndex {
+
+    private final UserRepository userRepository;
+
+    private final Set<String> emails = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    @Override
+    public EmailLookup lookup(String email) {
+        if (emails.contains(EmailExistenceIndex.normalize(email))) {
+            return EmailLookup.PRESENT;
+        }
+        return ready ? EmailLookup.ABSENT : EmailLookup.UNKNOWN;
+    }
+
+    @Override
+    public void add(String email) {
+        emails.add(EmailExistenceIndex.normalize(email));
+    }
+
+    /**
+     * 載入完成前（UNKNOWN）由資料庫確認存在的 Email 直接加入索引
+     */
+    @Override
+    public void recordDatabaseResult(String email, boolean exists) {
+        if (exists) {
+            add(email);
+        }
+    }
+
+    /**
+     * 啟動完成後載入所有 Email
+     *
+     * 載入期間提交的註冊也會透過事件加入，因此載入完成後索引是完整的
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        try (Stream<String> allEmails = userRepository.streamAllEmails()) {
+            allEmails.forEach(this::add);
+        }
+        ready = true;
+        log.info("Email 索引載入完成，共 {} 筆，耗時 {} ms", emails.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 註冊交易提交後加入新的 Email
+     */
+    @TransactionalEventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        add(event.email());
+    }
+}
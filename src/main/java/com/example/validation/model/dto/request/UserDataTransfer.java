@@ -38,6 +38,8 @@ public class UserDataTransfer {
 
     /**
      * 從 User Entity 轉換
+     *
+     * 需要略過重複驗證時改用 VerifiedUserData.fromUser
      */
     public static UserDataTransfer fromUser(com.example.validation.model.entity.User user) {
         if (user == null) {
@@ -1,6 +1,7 @@
 package com.example.validation.model.dto.request;
 
 import com.example.validation.validation.UniqueEmail;
+import com.example.validation.validation.compiled.GenerateValidator;
 import jakarta.validation.constraints.*;
 
 /**
@@ -8,6 +9,7 @@ import jakarta.validation.constraints.*;
  *
  * 使用 Bean Validation 註解進行聲明式驗證
  */
+@GenerateValidator
 public record UserRegistrationRequest(
 
     @NotBlank(message = "姓名不可為空")
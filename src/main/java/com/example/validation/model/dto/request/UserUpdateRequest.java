@@ -1,5 +1,7 @@
 package com.example.validation.model.dto.request;
 
+import com.example.validation.validation.VipTierRule;
+import com.example.validation.validation.compiled.GenerateValidator;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,12 +10,18 @@ import lombok.NoArgsConstructor;
 /**
  * 使用者更新請求 DTO
  *
- * 展示如何在 DTO 中使用 @AssertTrue 進行複雜驗證
+ * 展示如何在 DTO 的類別上宣告約束進行跨欄位驗證：
+ * VIP 等級與折扣率、最低年齡的規則由 VipTierRules 從設定檔載入，與 UserVipRequest 共用 VipTierRuleValidator
  */
+@GenerateValidator
+@VipTierRule(value = VipTierRule.Check.DISCOUNT, field = "validVipDiscount",
+             message = "VIP 等級與折扣率不符合規則")
+@VipTierRule(value = VipTierRule.Check.MINIMUM_AGE, field = "validPlatinumAge",
+             message = "年齡未達此 VIP 等級的最低年齡")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserUpdateRequest {
+public class UserUpdateRequest implements VipMembership {
 
     @NotNull(message = "使用者 ID 不可為空")
     private Long userId;
@@ -35,52 +43,19 @@ public class UserUpdateRequest {
     private Integer vipLevel;      // 0=普通, 1=銀卡, 2=金卡, 3=白金卡
     private Integer discountRate;  // 折扣率（百分比）
 
-    /**
-     * 自定義驗證：VIP 等級和折扣率的對應關係
-     *
-     * @AssertTrue 會檢查這個方法的返回值是否為 true
-     * 方法名必須以 is 開頭
-     *
-     * 業務規則：
-     * - 普通會員 (level 0): 折扣 0%
-     * - 銀卡 (level 1): 折扣 5-10%
-     * - 金卡 (level 2): 折扣 10-20%
-     * - 白金卡 (level 3): 折扣 20-30%
-     */
-    @AssertTrue(message = "VIP 等級與折扣率不符合規則")
-    public boolean isValidVipDiscount() {
-        // 如果沒有設定 VIP 等級，不驗證
-        if (vipLevel == null || discountRate == null) {
-            return true;
-        }
-
-        // 根據 VIP 等級檢查折扣率範圍
-        return switch (vipLevel) {
-            case 0 -> discountRate == 0;                          // 普通會員無折扣
-            case 1 -> discountRate >= 5 && discountRate <= 10;    // 銀卡 5-10%
-            case 2 -> discountRate >= 10 && discountRate <= 20;   // 金卡 10-20%
-            case 3 -> discountRate >= 20 && discountRate <= 30;   // 白金卡 20-30%
-            default -> false;                                      // 無效的 VIP 等級
-        };
+    @Override
+    public Integer vipLevel() {
+        return vipLevel;
     }
 
-    /**
-     * 自定義驗證：年齡與 VIP 等級的關係
-     *
-     * 業務規則：白金卡僅限 30 歲以上會員
-     */
-    @AssertTrue(message = "白金卡僅限 30 歲以上會員申請")
-    public boolean isValidPlatinumAge() {
-        if (vipLevel == null || age == null) {
-            return true;
-        }
-
-        // 白金卡必須年滿 30 歲
-        if (vipLevel == 3) {
-            return age >= 30;
-        }
+    @Override
+    public Integer discountRate() {
+        return discountRate;
+    }
 
-        return true;
+    @Override
+    public Integer age() {
+        return age;
     }
 
     /**
@@ -1,16 +1,32 @@
 package com.example.validation.model.dto.request;
 
+import com.example.validation.validation.VipTierRule;
+import com.example.validation.validation.compiled.GenerateValidator;
+import com.example.validation.validation.rule.Rule;
 import jakarta.validation.constraints.*;
 
 /**
- * 使用 Record 配合 @AssertTrue 的範例
+ * 使用 Record 配合類別約束（@VipTierRule、@Rule）進行跨欄位驗證的範例
  *
  * Record 的優點：
  * 1. 簡潔的語法
  * 2. 自動生成 constructor、getter、equals、hashCode、toString
  * 3. 不可變（immutable）
  * 4. 可以添加自定義方法（包括 @AssertTrue 驗證方法）
+ *
+ * VIP 等級規則以類別上的 @VipTierRule 宣告（規則表由 VipTierRules 從設定檔載入，與 UserUpdateRequest 共用）；
+ * 單純的跨欄位規則以類別上的 @Rule 運算式宣告（見 RuleCompiler）
+ *
+ * 錯誤回應中的欄位名稱沿用舊版的 validVipDiscount、validPlatinumAge、validDiscountRange，
+ * 既有用戶端不受影響
  */
+@GenerateValidator
+@Rule(value = "discountRate == null || (discountRate >= 0 && discountRate <= 100)", field = "validDiscountRange",
+      message = "折扣率必須在 0-100 之間")
+@VipTierRule(value = VipTierRule.Check.DISCOUNT, field = "validVipDiscount",
+             message = "VIP 等級與折扣率不符合規則")
+@VipTierRule(value = VipTierRule.Check.MINIMUM_AGE, field = "validPlatinumAge",
+             message = "年齡未達此 VIP 等級的最低年齡")
 public record UserVipRequest(
 
         @NotNull(message = "使用者 ID 不可為空")
@@ -27,70 +43,7 @@ public record UserVipRequest(
 
         Integer vipLevel,      // VIP 等級：0=普通, 1=銀卡, 2=金卡, 3=白金卡
         Integer discountRate   // 折扣率（百分比）
-) {
-
-    /**
-     * @AssertTrue 驗證方法
-     *
-     * 重點：
-     * 1. Record 可以定義自定義方法
-     * 2. 方法名必須以 is 開頭，返回 boolean
-     * 3. 可以訪問 record 的所有欄位（直接使用欄位名，不需要 this.）
-     *
-     * 業務規則：VIP 等級與折扣率必須對應
-     * - 普通會員 (0): 無折扣 (0%)
-     * - 銀卡 (1): 5-10%
-     * - 金卡 (2): 10-20%
-     * - 白金卡 (3): 20-30%
-     */
-    @AssertTrue(message = "VIP 等級與折扣率不符合規則")
-    public boolean isValidVipDiscount() {
-        // Record 的欄位可以直接訪問（不需要 this.vipLevel）
-        if (vipLevel == null || discountRate == null) {
-            return true;  // 允許為空
-        }
-
-        return switch (vipLevel) {
-            case 0 -> discountRate == 0;
-            case 1 -> discountRate >= 5 && discountRate <= 10;
-            case 2 -> discountRate >= 10 && discountRate <= 20;
-            case 3 -> discountRate >= 20 && discountRate <= 30;
-            default -> false;
-        };
-    }
-
-    /**
-     * 白金卡年齡限制驗證
-     *
-     * 業務規則：白金卡僅限 30 歲以上會員
-     */
-    @AssertTrue(message = "白金卡僅限 30 歲以上會員申請")
-    public boolean isValidPlatinumAge() {
-        if (vipLevel == null || age == null) {
-            return true;
-        }
-
-        // 白金卡必須年滿 30 歲
-        if (vipLevel == 3) {
-            return age >= 30;
-        }
-
-        return true;
-    }
-
-    /**
-     * 折扣率範圍驗證
-     *
-     * 業務規則：折扣率必須在 0-100 之間
-     */
-    @AssertTrue(message = "折扣率必須在 0-100 之間")
-    public boolean isValidDiscountRange() {
-        if (discountRate == null) {
-            return true;
-        }
-
-        return discountRate >= 0 && discountRate <= 100;
-    }
+) implements VipMembership {
 
     /**
      * 工廠方法：從 Entity 創建
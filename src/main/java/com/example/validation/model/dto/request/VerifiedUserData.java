@@ -0,0 +1,45 @@
+package com.example.validation.model.dto.request;
+
+import com.example.validation.model.entity.User;
+import com.example.validation.repository.UserSnapshot;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 來自資料庫、已驗證的使用者資料
+ *
+ * 資料庫中的使用者在註冊時已通過與 UserDataTransfer 相同的約束，因此視為已驗證。
+ * 與 UserDataTransfer 是不同的型別：不可修改、沒有約束註解，建構子不公開，
+ * 只能由資料庫資料建立，無法用來包裝外部輸入。
+ * Service 方法接收此型別時只需要 @NotNull，方法驗證不會再走訪其欄位
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VerifiedUserData {
+
+    Long userId;
+    String name;
+    String email;
+    Integer age;
+
+    /**
+     * 從 User Entity 建立
+     */
+    public static VerifiedUserData fromUser(User user) {
+        if (user == null) {
+            return null;
+        }
+        return new VerifiedUserData(user.getId(), user.getName(), user.getEmail(), user.getAge());
+    }
+
+    /**
+     * 從 Repository 投影（UserService.getUser 的結果）建立
+     */
+    public static VerifiedUserData fromSnapshot(UserSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        return new VerifiedUserData(snapshot.id(), snapshot.name(), snapshot.email(), snapshot.age());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.validation.model.dto.request;
+
+/**
+ * 具有 VIP 等級、折扣率與年齡的請求，由 @VipTierRule 依目前的等級規則驗證
+ */
+public interface VipMembership {
+
+    Integer vipLevel();
+
+    Integer discountRate();
+
+    Integer age();
+}
@@ -0,0 +1,15 @@
+package com.example.validation.model.dto.response;
+
+import java.util.Map;
+
+/**
+ * 批次處理中單筆資料的錯誤
+ *
+ * @param index  資料在請求清單中的位置（從 0 開始）
+ * @param errors 欄位名稱與錯誤訊息
+ */
+public record BatchItemError(
+    int index,
+    Map<String, String> errors
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.validation.model.dto.response;
+
+import java.util.List;
+
+/**
+ * 批次註冊回應 DTO
+ *
+ * 驗證通過的資料會寫入，驗證失敗的資料列在 errors 中，兩者互不影響
+ */
+public record BatchRegistrationResponse(
+    int total,
+    int succeeded,
+    int failed,
+    List<UserResponse> users,
+    List<BatchItemError> errors
+) {
+}
@@ -0,0 +1,26 @@
+package com.example.validation.model.dto.response;
+
+import com.example.validation.imports.ImportFormat;
+import com.example.validation.imports.ImportJobStatus;
+
+import java.time.Instant;
+
+/**
+ * 匯入工作進度回應 DTO
+ */
+public record ImportJobResponse(
+    String id,
+    ImportJobStatus status,
+    ImportFormat format,
+    long totalBytes,
+    long bytesRead,
+    double percent,
+    long records,
+    long imported,
+    long failed,
+    long recordsPerSecond,
+    Instant startedAt,
+    Instant finishedAt,
+    String message
+) {
+}
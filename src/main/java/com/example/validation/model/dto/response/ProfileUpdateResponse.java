@@ -0,0 +1,17 @@
+package com.example.validation.model.dto.response;
+
+/**
+ * 個人資料更新結果
+ *
+ * @param userId  使用者 ID
+ * @param name    姓名
+ * @param phone   更新後的電話號碼
+ * @param version 更新後的版本（與 GET /api/users/{id} 的 ETag 相同）
+ */
+public record ProfileUpdateResponse(
+    Long userId,
+    String name,
+    String phone,
+    Long version
+) {
+}
@@ -0,0 +1,20 @@
+package com.example.validation.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * 串流驗證回應（NDJSON）中的一行
+ *
+ * @param line   請求內容中的行號（從 1 開始，空白行也計入）
+ * @param valid  是否通過驗證
+ * @param errors 欄位名稱與錯誤訊息；通過時省略
+ */
+public record StreamValidationResult(
+    long line,
+    boolean valid,
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    Map<String, String> errors
+) {
+}
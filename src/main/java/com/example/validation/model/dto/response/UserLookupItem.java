@@ -0,0 +1,15 @@
+package com.example.validation.model.dto.response;
+
+/**
+ * 多筆查詢中單一 ID 的結果
+ *
+ * @param id    查詢的使用者 ID
+ * @param found 是否找到
+ * @param user  使用者資訊；找不到時為 null
+ */
+public record UserLookupItem(
+    Long id,
+    boolean found,
+    UserResponse user
+) {
+}
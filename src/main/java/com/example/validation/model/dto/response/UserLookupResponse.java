@@ -0,0 +1,13 @@
+package com.example.validation.model.dto.response;
+
+import java.util.List;
+
+/**
+ * 多筆使用者查詢回應 DTO
+ *
+ * @param users 依請求中 ID 的順序排列，找不到的 ID 以 found = false 表示
+ */
+public record UserLookupResponse(
+    List<UserLookupItem> users
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.validation.model.dto.response;
+
+import java.util.List;
+
+/**
+ * 使用者列表回應 DTO
+ *
+ * @param users      本頁的使用者
+ * @param nextCursor 下一頁的游標；已是最後一頁時為 null
+ */
+public record UserPageResponse(
+    List<UserResponse> users,
+    String nextCursor
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.validation.model.dto.response;
+
+import java.util.List;
+
+/**
+ * 批次 VIP 驗證結果
+ *
+ * 不直接交給 Jackson 序列化：由 VipValidationService#writeBatch 串流寫出，
+ * 每筆輸出為 {"index", "valid", "violations"}，通過的資料不列出 violations
+ *
+ * @param total      總筆數
+ * @param passed     通過筆數
+ * @param failed     失敗筆數
+ * @param violations 每筆資料違反的規則（「欄位:約束」），順序與請求相同；通過的資料為空清單
+ */
+public record VipBatchValidationResponse(
+    int total,
+    int passed,
+    int failed,
+    List<List<String>> violations
+) {
+}
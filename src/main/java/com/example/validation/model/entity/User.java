@@ -1,6 +1,11 @@
 package com.example.validation.model.entity;
 
+import com.example.validation.event.UserEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,23 +15,55 @@ import java.time.LocalDateTime;
 
 /**
  * 使用者實體
+ *
+ * 使用 Hibernate 二級快取（region: users），Email 為 natural id，
+ * 以 Email 查詢 ID 的結果也會快取（region: users-natural-id）
  */
 @Entity
-@Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
+@EntityListeners(UserEntityListener.class)
+@Table(
+    name = "users",
+    uniqueConstraints = @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+    indexes = {
+        // 使用者列表的 keyset 分頁：ORDER BY created_at DESC, id DESC
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        // 使用者列表的年齡篩選
+        @Index(name = "idx_users_age", columnList = "age")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
 
+    /**
+     * Email 唯一約束名稱，註冊時用來辨識重複 Email 的寫入失敗
+     */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
+    /**
+     * 二級快取 region 名稱（設定在 hibernate-jcache.conf）
+     */
+    public static final String CACHE_REGION = "users";
+    public static final String NATURAL_ID_CACHE_REGION = "users-natural-id";
+
+    /**
+     * 使用序列產生 ID（pooled，一次取得 50 個），
+     * IDENTITY 需要逐筆 INSERT 才能取得 ID，會讓 Hibernate 無法批次寫入
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
     private String name;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @NaturalId(mutable = true)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @Column(nullable = false)
@@ -35,9 +72,24 @@ public class User {
     @Column(nullable = false, length = 255)
     private String password;
 
+    /**
+     * 電話號碼；由 UserRepository.updatePhone 直接更新，不經過實體載入
+     */
+    @Column(length = 20)
+    private String phone;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 樂觀鎖版本，每次更新遞增；同時作為 GET /api/users/{id} 的 ETag
+     *
+     * 注意：原生或批次 UPDATE 不會自動遞增，必須在查詢中自行 version = version + 1
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
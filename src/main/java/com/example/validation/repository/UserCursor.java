@@ -0,0 +1,52 @@
+package com.example.validation.repository;
+
+import com.example.validation.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 使用者列表的分頁游標：上一頁最後一筆的 (createdAt, id)
+ *
+ * 對外以 Base64 編碼的不透明字串傳遞，呼叫端不應解析其內容
+ *
+ * @param createdAt 建立時間
+ * @param id        使用者 ID
+ */
+public record UserCursor(
+    LocalDateTime createdAt,
+    Long id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * @return 不透明的游標字串
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游標字串
+     *
+     * @param token 游標字串
+     * @return 游標
+     * @throws BusinessException 格式不正確時
+     */
+    public static UserCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new UserCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.valueOf(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("無效的分頁游標");
+        }
+    }
+}
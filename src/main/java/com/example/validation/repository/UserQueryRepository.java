@@ -0,0 +1,52 @@
+package com.example.validation.repository;
+
+import com.example.validation.model.dto.response.UserResponse;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 需要動態組合條件的使用者查詢（由 UserQueryRepositoryImpl 實作）
+ */
+public interface UserQueryRepository {
+
+    /**
+     * 以 keyset 分頁查詢使用者，依 (createdAt, id) 由新到舊排序
+     *
+     * 條件為 (createdAt, id) < 游標，配合 idx_users_created_at_id 索引，
+     * 不論翻到第幾頁都只需要讀取 limit 筆資料
+     *
+     * @param criteria 篩選條件
+     * @param after    上一頁最後一筆；null 表示第一頁
+     * @param limit    最多回傳筆數
+     * @return 使用者（不含密碼）
+     */
+    List<UserResponse> findPage(UserSearchCriteria criteria, UserCursor after, int limit);
+
+    /**
+     * 以 natural id 檢查 Email 是否已註冊
+     *
+     * 只解析 Email 對應的 ID（natural id 快取，未命中時查詢 id 欄位），不載入實體；
+     * 已註冊的 Email 再次查詢時不需要存取資料庫。不存在的 Email 不會被快取，
+     * 這部分由前面的 Email 索引負責
+     *
+     * @param email 正規化後的 Email 地址（EmailExistenceIndex.normalize）
+     * @return true 表示已存在
+     */
+    @Transactional(readOnly = true)
+    boolean isEmailRegistered(String email);
+
+    /**
+     * 直接更新電話號碼，不載入實體也不做 dirty checking
+     *
+     * 以原生 UPDATE 寫入並自行遞增 @Version；只清除這位使用者的二級快取，
+     * 不會像 JPQL 批次更新那樣清空整個 User region。
+     * 不會觸發 UserEntityListener，由呼叫端發布 UserUpdatedEvent
+     *
+     * @param id    使用者 ID
+     * @param phone 新的電話號碼
+     * @return 更新的筆數（0 表示使用者不存在）
+     */
+    @Transactional
+    int updatePhone(Long id, String phone);
+}
@@ -0,0 +1,98 @@
+package com.example.validation.repository;
+
+import com.example.validation.model.dto.response.UserResponse;
+import com.example.validation.model.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UserQueryRepository 實作
+ *
+ * 只加入有值的條件，避免 (:param is null or ...) 寫法讓資料庫無法使用索引
+ */
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    /**
+     * 原生 UPDATE 宣告的查詢空間
+     *
+     * 未宣告時 Hibernate 會清空所有二級快取 region；宣告 users 資料表則會清空整個 User 與 natural id region。
+     * 此名稱不對應任何實體，因此不清除任何 region，改由 updatePhone 只清除被更新的使用者
+     */
+    private static final String PHONE_UPDATE_SPACE = "users_phone_update";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserResponse> findPage(UserSearchCriteria criteria, UserCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserResponse> query = cb.createQuery(UserResponse.class);
+        Root<User> user = query.from(User.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.minAge() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(user.get("age"), criteria.minAge()));
+        }
+        if (criteria.maxAge() != null) {
+            predicates.add(cb.lessThanOrEqualTo(user.get("age"), criteria.maxAge()));
+        }
+        if (criteria.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(user.<LocalDateTime>get("createdAt"), criteria.createdFrom()));
+        }
+        if (criteria.createdTo() != null) {
+            predicates.add(cb.lessThan(user.<LocalDateTime>get("createdAt"), criteria.createdTo()));
+        }
+        if (after != null) {
+            // (createdAt, id) < (:createdAt, :id)
+            predicates.add(cb.or(
+                cb.lessThan(user.<LocalDateTime>get("createdAt"), after.createdAt()),
+                cb.and(
+                    cb.equal(user.get("createdAt"), after.createdAt()),
+                    cb.lessThan(user.<Long>get("id"), after.id())
+                )
+            ));
+        }
+
+        query.select(cb.construct(UserResponse.class,
+                        user.get("id"), user.get("name"), user.get("email"), user.get("age"), user.get("createdAt")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(user.get("createdAt")), cb.desc(user.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public boolean isEmailRegistered(String email) {
+        // getReference 只解析 ID 並回傳代理，不會讀取整列資料（包含密碼）
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .getReference(email) != null;
+    }
+
+    @Override
+    public int updatePhone(Long id, String phone) {
+        NativeQuery<?> update = entityManager
+                .createNativeQuery("update users set phone = :phone, version = version + 1 where id = :id")
+                .setParameter("phone", phone)
+                .setParameter("id", id)
+                .unwrap(NativeQuery.class);
+        int updated = update.addSynchronizedQuerySpace(PHONE_UPDATE_SPACE).executeUpdate();
+        if (updated > 0) {
+            // Email（natural id）沒有變更，natural id 快取不需要清除；提交後 UserCacheInvalidator 會再清除一次
+            entityManager.getEntityManagerFactory().getCache().evict(User.class, id);
+        }
+        return updated;
+    }
+}
@@ -1,19 +1,102 @@
 package com.example.validation.repository;
 
+import com.example.validation.model.dto.response.ProfileUpdateResponse;
+import com.example.validation.model.dto.response.UserResponse;
 import com.example.validation.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 使用者 Repository
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserQueryRepository {
+
+    /**
+     * 一次取得多位使用者，直接投影為 UserResponse（不含密碼）
+     * @param ids 使用者 ID
+     * @return 存在的使用者（順序不保證）
+     */
+    @Query("select new com.example.validation.model.dto.response.UserResponse(u.id, u.name, u.email, u.age, u.createdAt) "
+            + "from User u where u.id in :ids")
+    @Transactional(readOnly = true)
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 取得使用者資料與版本
+     * @param id 使用者 ID
+     * @return 使用者資料與版本
+     */
+    @Query("select new com.example.validation.repository.UserSnapshot(u.id, u.name, u.email, u.age, u.createdAt, u.version) "
+            + "from User u where u.id = :id")
+    @Transactional(readOnly = true)
+    Optional<UserSnapshot> findSnapshotById(@Param("id") Long id);
+
+    /**
+     * 一次取得多位使用者的資料與版本（UserService.getUser 的批次載入）
+     * @param ids 使用者 ID
+     * @return 存在的使用者資料與版本（順序不保證）
+     */
+    @Query("select new com.example.validation.repository.UserSnapshot(u.id, u.name, u.email, u.age, u.createdAt, u.version) "
+            + "from User u where u.id in :ids")
+    @Transactional(readOnly = true)
+    List<UserSnapshot> findSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 只查詢使用者的版本（用於條件式請求，不需要載入其他欄位）
+     * @param id 使用者 ID
+     * @return 版本
+     */
+    @Query("select u.version from User u where u.id = :id")
+    @Transactional(readOnly = true)
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 取得個人資料更新結果（姓名、電話與版本）
+     * @param id 使用者 ID
+     * @return 個人資料更新結果
+     */
+    @Query("select new com.example.validation.model.dto.response.ProfileUpdateResponse(u.id, u.name, u.phone, u.version) "
+            + "from User u where u.id = :id")
+    Optional<ProfileUpdateResponse> findProfileById(@Param("id") Long id);
+
+    /**
+     * 查詢清單中已存在的 Email（批次註冊時一次檢查多筆）
+     * @param emails 正規化後的 Email 地址
+     * @return 已存在的 Email
+     */
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 串流讀取所有使用者（用於匯出），直接投影為 UserResponse，不載入密碼
+     *
+     * 注意：必須在交易中使用，並在使用完畢後關閉 Stream
+     * @return 依 ID 排序的所有使用者
+     */
+    @Query("select new com.example.validation.model.dto.response.UserResponse(u.id, u.name, u.email, u.age, u.createdAt) "
+            + "from User u order by u.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserResponse> streamAllForExport();
 
     /**
-     * 檢查 Email 是否已存在
-     * @param email Email 地址
-     * @return true 表示已存在
+     * 串流讀取所有 Email（用於載入 Email 索引）
+     *
+     * 注意：必須在交易中使用，並在使用完畢後關閉 Stream
+     * @return 所有使用者的 Email
      */
-    boolean existsByEmail(String email);
+    @Query("select u.email from User u")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,19 @@
+package com.example.validation.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 使用者列表的篩選條件，null 表示不限制
+ *
+ * @param minAge      最小年齡（含）
+ * @param maxAge      最大年齡（含）
+ * @param createdFrom 建立時間起（含）
+ * @param createdTo   建立時間迄（不含）
+ */
+public record UserSearchCriteria(
+    Integer minAge,
+    Integer maxAge,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo
+) {
+}
@@ -0,0 +1,24 @@
+package com.example.validation.repository;
+
+import com.example.validation.model.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 使用者資料與版本（不含密碼），用於需要 ETag 的查詢
+ *
+ * @param version User 的 @Version 欄位
+ */
+public record UserSnapshot(
+    Long id,
+    String name,
+    String email,
+    Integer age,
+    LocalDateTime createdAt,
+    Long version
+) {
+
+    public UserResponse toResponse() {
+        return new UserResponse(id, name, email, age, createdAt);
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.validation.service;
 
 import com.example.validation.model.dto.request.UserDataTransfer;
+import com.example.validation.model.dto.request.VerifiedUserData;
+import com.example.validation.model.dto.response.ProfileUpdateResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 
 /**
  * 個人資料服務介面
@@ -17,9 +21,45 @@ public interface ProfileService {
      *
      * 重點：@Valid 必須定義在介面上，而不是實作類別上
      *
+     * 新的電話號碼來自使用者輸入，同樣在介面上宣告約束
+     *
      * @param userData 從其他 Service 取得的使用者資料（必須經過驗證）
-     * @param newPhone 新的電話號碼
+     * @param newPhone 新的電話號碼（09 開頭的 10 位數字）
+     * @return 更新後的訊息
+     */
+    String updateProfile(@Valid @NotNull UserDataTransfer userData,
+                         @NotBlank(message = "電話號碼不可為空")
+                         @Pattern(regexp = "^09\\d{8}$", message = "電話號碼必須是 09 開頭的 10 位數字")
+                         String newPhone);
+
+    /**
+     * 以資料庫中的使用者資料更新個人資料
+     *
+     * VerifiedUserData 只能由資料庫資料建立，不需要再以 @Valid 驗證其欄位；
+     * 方法驗證只檢查它不為 null，以及來自使用者輸入的 newPhone
+     *
+     * @param userData 已驗證的使用者資料（VerifiedUserData.fromUser / fromSnapshot）
+     * @param newPhone 新的電話號碼（09 開頭的 10 位數字）
      * @return 更新後的訊息
      */
-    String updateProfile(@Valid @NotNull UserDataTransfer userData, String newPhone);
+    String updateProfile(@NotNull VerifiedUserData userData,
+                         @NotBlank(message = "電話號碼不可為空")
+                         @Pattern(regexp = "^09\\d{8}$", message = "電話號碼必須是 09 開頭的 10 位數字")
+                         String newPhone);
+
+    /**
+     * 更新使用者電話號碼（單一交易）
+     *
+     * 寫入與讀回結果在同一個交易內完成，只取得一次連線。
+     * 使用者資料來自資料庫本身，不需要再以 UserDataTransfer 驗證；
+     * 只有來自請求的 userId 與 newPhone 需要驗證
+     *
+     * @param userId   使用者 ID
+     * @param newPhone 新的電話號碼（09 開頭的 10 位數字）
+     * @return 更新結果
+     */
+    ProfileUpdateResponse updatePhone(@NotNull(message = "使用者 ID 不可為空") Long userId,
+                                      @NotBlank(message = "電話號碼不可為空")
+                                      @Pattern(regexp = "^09\\d{8}$", message = "電話號碼必須是 09 開頭的 10 位數字")
+                                      String newPhone);
 }
@@ -0,0 +1,25 @@
+package com.example.validation.service;
+
+import com.example.validation.validation.StreamValidationType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 串流驗證服務介面
+ */
+public interface StreamValidationService {
+
+    /**
+     * 逐行讀取 NDJSON 並驗證，每行的結果立即以 NDJSON 寫入輸出串流
+     *
+     * 記憶體用量與資料量無關；輸入暫時沒有資料時會先送出已產生的結果，
+     * 用戶端不必等到整份內容上傳完畢
+     *
+     * @param type   每行資料的型別
+     * @param input  NDJSON 輸入串流
+     * @param output 輸出串流（不會被關閉）
+     */
+    void validate(StreamValidationType type, InputStream input, OutputStream output) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.example.validation.service;
+
+import com.example.validation.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 使用者匯出服務介面
+ */
+public interface UserExportService {
+
+    /**
+     * 將所有使用者（不含密碼）依 ID 順序寫入輸出串流
+     *
+     * @param format 匯出格式
+     * @param output 輸出串流（不會被關閉）
+     */
+    void export(ExportFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,39 @@
+package com.example.validation.service;
+
+import com.example.validation.imports.ImportFormat;
+import com.example.validation.model.dto.response.ImportJobResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 使用者匯入服務介面
+ */
+public interface UserImportService {
+
+    /**
+     * 將上傳內容寫入暫存檔並在背景開始匯入
+     *
+     * @param content 檔案內容
+     * @param format  檔案格式
+     * @return 匯入工作（狀態為 QUEUED）
+     */
+    ImportJobResponse startImport(InputStream content, ImportFormat format) throws IOException;
+
+    /**
+     * 查詢匯入進度
+     *
+     * @param jobId 匯入工作 ID
+     * @return 目前進度
+     */
+    ImportJobResponse getJob(String jobId);
+
+    /**
+     * 取得錯誤報告檔案（NDJSON，匯入期間會持續寫入）
+     *
+     * @param jobId 匯入工作 ID
+     * @return 錯誤報告檔案路徑
+     */
+    Path getErrorReport(String jobId);
+}
@@ -1,8 +1,14 @@
 package com.example.validation.service;
 
-import com.example.validation.model.dto.request.UserDataTransfer;
 import com.example.validation.model.dto.request.UserRegistrationRequest;
+import com.example.validation.model.dto.response.BatchRegistrationResponse;
+import com.example.validation.model.dto.response.UserLookupResponse;
+import com.example.validation.model.dto.response.UserPageResponse;
 import com.example.validation.model.dto.response.UserResponse;
+import com.example.validation.repository.UserSearchCriteria;
+import com.example.validation.repository.UserSnapshot;
+
+import java.util.List;
 
 /**
  * 使用者服務介面
@@ -18,10 +24,56 @@ public interface UserService {
     UserResponse registerUser(UserRegistrationRequest request);
 
     /**
-     * 根據 ID 取得使用者資料
+     * 批次註冊使用者
+     *
+     * 逐筆驗證後寫入驗證通過的資料，驗證失敗（包含 Email 重複）的資料列在回應的 errors 中
+     *
+     * @param requests 使用者註冊請求清單
+     * @return 批次註冊結果
+     */
+    BatchRegistrationResponse registerUsers(List<UserRegistrationRequest> requests);
+
+    /**
+     * 批次註冊已驗證的使用者
+     *
+     * 呼叫端已完成驗證（例如匯入流程的平行驗證），只檢查重複的 Email 後寫入
+     *
+     * @param requests 已通過驗證的使用者註冊請求清單
+     * @return 批次註冊結果（errors 只會包含 Email 重複）
+     */
+    BatchRegistrationResponse registerValidatedUsers(List<UserRegistrationRequest> requests);
+
+    /**
+     * 以 keyset 分頁查詢使用者列表（由新到舊）
+     *
+     * @param criteria 篩選條件
+     * @param cursor   上一頁回應的 nextCursor；null 表示第一頁
+     * @param limit    每頁筆數
+     * @return 本頁的使用者與下一頁的游標
+     */
+    UserPageResponse listUsers(UserSearchCriteria criteria, String cursor, int limit);
+
+    /**
+     * 一次查詢多位使用者
+     *
+     * @param ids 使用者 ID（可重複）
+     * @return 依 ID 順序排列的結果，找不到的 ID 會標示為 not found
+     */
+    UserLookupResponse getUsers(List<Long> ids);
+
+    /**
+     * 取得單一使用者與版本（結果會快取，資料變更提交後清除）
+     *
+     * @param userId 使用者 ID
+     * @return 使用者資料與版本
+     */
+    UserSnapshot getUser(Long userId);
+
+    /**
+     * 只取得使用者的版本（用於 If-None-Match 條件式請求）
      *
      * @param userId 使用者 ID
-     * @return 使用者資料傳輸物件
+     * @return 版本
      */
-    UserDataTransfer getUserData(Long userId);
+    long getUserVersion(Long userId);
 }
@@ -0,0 +1,32 @@
+package com.example.validation.service;
+
+import com.example.validation.model.dto.response.VipBatchValidationResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * VIP 會員驗證服務介面
+ */
+public interface VipValidationService {
+
+    /**
+     * 讀取 UserVipRequest 的 JSON 陣列並批次驗證
+     *
+     * 以串流方式解析，讀到第 app.vip.batch-max-size + 1 筆時立即拒絕，不會先反序列化整份內容；
+     * 每筆資料套用與 POST /api/users/vip/validate 相同的約束，驗證失敗不會中斷其他資料
+     *
+     * @param input JSON 陣列輸入串流
+     * @return 每筆資料的驗證結果
+     */
+    VipBatchValidationResponse validateBatch(InputStream input) throws IOException;
+
+    /**
+     * 將批次驗證結果以 JSON 串流寫出，不建立整份回應物件
+     *
+     * @param response 批次驗證結果
+     * @param output   輸出串流（不會被關閉）
+     */
+    void writeBatch(VipBatchValidationResponse response, OutputStream output) throws IOException;
+}
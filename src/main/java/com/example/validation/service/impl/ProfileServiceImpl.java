@@ -1,10 +1,17 @@
 package com.example.validation.service.impl;
 
+import com.example.validation.event.UserUpdatedEvent;
+import com.example.validation.exception.UserNotFoundException;
 import com.example.validation.model.dto.request.UserDataTransfer;
+import com.example.validation.model.dto.request.VerifiedUserData;
+import com.example.validation.model.dto.response.ProfileUpdateResponse;
+import com.example.validation.repository.UserRepository;
 import com.example.validation.service.ProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -22,18 +29,25 @@ import org.springframework.validation.annotation.Validated;
 @Slf4j
 public class ProfileServiceImpl implements ProfileService {
 
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 更新使用者個人資料
      *
      * 注意：@Valid 註解定義在介面 ProfileService 上
      * 實作類別不需要重複定義 @Valid，否則會違反 Bean Validation 規範
      *
+     * 電話號碼以單一 UPDATE 寫入，不載入實體；
+     * 批次更新不會觸發 UserEntityListener，因此在此發布 UserUpdatedEvent
+     *
      * @param userData 從 UserService 取得的使用者資料
      *                 即使資料來自內部 Service，@Valid 仍會驗證所有欄位
      * @param newPhone 新的電話號碼
      * @return 更新後的訊息
      */
     @Override
+    @Transactional
     public String updateProfile(UserDataTransfer userData, String newPhone) {
 
         // 此時 userData 已經通過驗證，確保所有必要欄位都有值
@@ -43,12 +57,57 @@ public class ProfileServiceImpl implements ProfileService {
                 userData.getEmail(),
                 userData.getAge());
 
+        return updateProfile(userData.getUserId(), userData.getName(), newPhone);
+    }
+
+    /**
+     * 以資料庫中的使用者資料更新個人資料
+     *
+     * VerifiedUserData 沒有約束註解，方法驗證只檢查 @NotNull 與 newPhone
+     *
+     * @param userData 已驗證的使用者資料
+     * @param newPhone 新的電話號碼
+     * @return 更新後的訊息
+     */
+    @Override
+    @Transactional
+    public String updateProfile(VerifiedUserData userData, String newPhone) {
+        log.info("更新使用者資料 - ID: {}", userData.getUserId());
+        return updateProfile(userData.getUserId(), userData.getName(), newPhone);
+    }
+
+    private String updateProfile(Long userId, String name, String newPhone) {
+        if (userRepository.updatePhone(userId, newPhone) == 0) {
+            throw new UserNotFoundException(userId);
+        }
+        eventPublisher.publishEvent(new UserUpdatedEvent(userId));
+
         log.info("新電話號碼: {}", newPhone);
 
-        // 實際業務邏輯：更新資料庫等
-        // ... 這裡可以安全地使用 userData 的所有欄位
+        return String.format("成功更新使用者 %s 的資料，新電話: %s", name, newPhone);
+    }
+
+    /**
+     * 更新使用者電話號碼
+     *
+     * UPDATE 與讀回結果在同一個交易內執行；
+     * 找不到使用者時 UPDATE 影響 0 筆，直接拋出 UserNotFoundException
+     *
+     * @param userId   使用者 ID
+     * @param newPhone 新的電話號碼
+     * @return 更新結果（包含新版本）
+     */
+    @Override
+    @Transactional
+    public ProfileUpdateResponse updatePhone(Long userId, String newPhone) {
+        if (userRepository.updatePhone(userId, newPhone) == 0) {
+            throw new UserNotFoundException(userId);
+        }
+        eventPublisher.publishEvent(new UserUpdatedEvent(userId));
 
-        return String.format("成功更新使用者 %s 的資料，新電話: %s",
-                userData.getName(), newPhone);
+        ProfileUpdateResponse response = userRepository.findProfileById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+        log.info("更新使用者電話號碼 - ID: {}, 版本: {}", userId, response.version());
+        return response;
     }
 }
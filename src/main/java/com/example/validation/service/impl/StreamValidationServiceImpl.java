@@ -0,0 +1,141 @@
+package com.example.validation.service.impl;
+
+import com.example.validation.config.ImportProperties;
+import com.example.validation.imports.ChunkedLineReader;
+import com.example.validation.imports.LineTooLongException;
+import com.example.validation.imports.NdjsonRecordParser;
+import com.example.validation.imports.RecordParseException;
+import com.example.validation.model.dto.response.StreamValidationResult;
+import com.example.validation.service.StreamValidationService;
+import com.example.validation.validation.StreamValidationType;
+import com.example.validation.validation.ValidationFacade;
+import com.example.validation.validation.ValidationResult;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.Map;
+
+/**
+ * 串流驗證服務實作
+ *
+ * 重點：
+ * 1. 以 ChunkedLineReader 逐段讀取請求內容，單行長度上限沿用 app.import.max-line-length
+ * 2. 每行解析後以 ValidationFacade 驗證（編譯期驗證器），結果由同一個 JsonGenerator 直接寫出，記憶體用量固定
+ * 3. 讀取請求內容即將阻塞時先送出已寫入的結果，第一筆結果不必等整份內容上傳完畢
+ * 4. 某行超過長度上限時，為該行寫出一筆失敗結果後結束，不讓回應在中途中斷
+ */
+@Service
+@Slf4j
+public class StreamValidationServiceImpl implements StreamValidationService {
+
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private static final Map<String, String> NULL_RECORD = Map.of("record", "不可為 null");
+
+    private final ValidationFacade validationFacade;
+    private final NdjsonRecordParser parser;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final ImportProperties importProperties;
+
+    public StreamValidationServiceImpl(ValidationFacade validationFacade, ObjectMapper objectMapper,
+                                       ImportProperties importProperties) {
+        this.validationFacade = validationFacade;
+        this.parser = new NdjsonRecordParser(objectMapper);
+        this.objectMapper = objectMapper;
+        // 每行寫完不 flush，由 FlushBeforeBlockingInputStream 決定何時送出
+        this.resultWriter = objectMapper.writerFor(StreamValidationResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.importProperties = importProperties;
+    }
+
+    @Override
+    public void validate(StreamValidationType type, InputStream input, OutputStream output) throws IOException {
+        long start = System.currentTimeMillis();
+
+        // 輸出串流由容器管理，不關閉 generator；每筆結果之後自行寫入換行
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+        // 請求內容由容器管理，不關閉 reader
+        ChunkedLineReader reader = new ChunkedLineReader(
+                Channels.newChannel(new FlushBeforeBlockingInputStream(input, generator)),
+                READ_BUFFER_SIZE, (int) importProperties.getMaxLineLength().toBytes());
+
+        long lineNumber = 0;
+        long passed = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                StreamValidationResult result = validateLine(type, lineNumber, line);
+                if (result.valid()) {
+                    passed++;
+                }
+                write(generator, result);
+            }
+        } catch (LineTooLongException e) {
+            lineNumber++;
+            log.warn("串流驗證第 {} 行超過 {} bytes，停止驗證", lineNumber, e.getMaxLineLength());
+            write(generator, new StreamValidationResult(lineNumber, false,
+                    Map.of("record", "超過單行長度上限 " + e.getMaxLineLength() + " bytes，之後的內容不再驗證")));
+        }
+        generator.flush();
+
+        log.info("串流驗證完成，型別 {}，共 {} 行，通過 {} 筆，耗時 {} ms",
+                type, lineNumber, passed, System.currentTimeMillis() - start);
+    }
+
+    private void write(JsonGenerator generator, StreamValidationResult result) throws IOException {
+        resultWriter.writeValue(generator, result);
+        generator.writeRaw('\n');
+    }
+
+    private StreamValidationResult validateLine(StreamValidationType type, long lineNumber, String line) {
+        Object request;
+        try {
+            request = parser.parse(line, type.requestType());
+        } catch (RecordParseException e) {
+            return new StreamValidationResult(lineNumber, false, e.getErrors());
+        }
+        if (request == null) {
+            return new StreamValidationResult(lineNumber, false, NULL_RECORD);
+        }
+
+        ValidationResult result = validationFacade.validate(request);
+        return new StreamValidationResult(lineNumber, result.isValid(), result.errors());
+    }
+
+    /**
+     * 輸入暫時沒有可讀取的資料時，先送出已寫入的結果再阻塞等待
+     */
+    private static final class FlushBeforeBlockingInputStream extends FilterInputStream {
+
+        private final JsonGenerator generator;
+
+        FlushBeforeBlockingInputStream(InputStream input, JsonGenerator generator) {
+            super(input);
+            this.generator = generator;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (in.available() == 0) {
+                generator.flush();
+            }
+            return in.read(buffer, offset, length);
+        }
+    }
+}
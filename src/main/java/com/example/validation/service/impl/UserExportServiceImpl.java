@@ -0,0 +1,90 @@
+package com.example.validation.service.impl;
+
+import com.example.validation.export.ExportFormat;
+import com.example.validation.model.dto.response.UserResponse;
+import com.example.validation.repository.UserRepository;
+import com.example.validation.service.UserExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 使用者匯出服務實作
+ *
+ * 重點：
+ * 1. 以 Stream 搭配 JDBC fetch size 逐批從資料庫讀取，記憶體用量固定
+ * 2. 查詢直接投影為 UserResponse，不載入 password 欄位，也不進入持久化上下文
+ * 3. 每筆資料轉換後直接寫入輸出串流，不在記憶體中組出完整內容
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportServiceImpl implements UserExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream output) throws IOException {
+        long start = System.currentTimeMillis();
+        long count = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            writer.write("id,name,email,age,createdAt\n");
+        }
+        try (Stream<UserResponse> users = userRepository.streamAllForExport()) {
+            Iterator<UserResponse> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                UserResponse user = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, user);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(user));
+                    writer.write('\n');
+                }
+                count++;
+            }
+        }
+        writer.flush();
+
+        log.info("匯出使用者完成，格式 {}，共 {} 筆，耗時 {} ms", format, count, System.currentTimeMillis() - start);
+    }
+
+    private void writeCsv(Writer writer, UserResponse user) throws IOException {
+        writer.write(String.valueOf(user.id()));
+        writer.write(',');
+        writer.write(csv(user.name()));
+        writer.write(',');
+        writer.write(csv(user.email()));
+        writer.write(',');
+        writer.write(String.valueOf(user.age()));
+        writer.write(',');
+        writer.write(String.valueOf(user.createdAt()));
+        writer.write('\n');
+    }
+
+    /**
+     * 含有逗號、雙引號或換行的值以雙引號包住，值內的雙引號改為 ""
+     */
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
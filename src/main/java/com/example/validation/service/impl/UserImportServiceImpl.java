@@ -0,0 +1,275 @@
+package com.example.validation.service.impl;
+
+import com.example.validation.config.ImportProperties;
+import com.example.validation.exception.BusinessException;
+import com.example.validation.imports.ChunkedLineReader;
+import com.example.validation.imports.CsvRecordParser;
+import com.example.validation.imports.ImportError;
+import com.example.validation.imports.ImportFormat;
+import com.example.validation.imports.ImportJob;
+import com.example.validation.imports.NdjsonRecordParser;
+import com.example.validation.imports.RecordParseException;
+import com.example.validation.imports.RecordParser;
+import com.example.validation.model.dto.request.UserRegistrationRequest;
+import com.example.validation.model.dto.response.BatchItemError;
+import com.example.validation.model.dto.response.BatchRegistrationResponse;
+import com.example.validation.model.dto.response.ImportJobResponse;
+import com.example.validation.service.UserImportService;
+import com.example.validation.service.UserService;
+import com.example.validation.validation.ValidationFacade;
+import com.example.validation.validation.ValidationResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 使用者匯入服務實作
+ *
+ * 流程：
+ * 1. 上傳內容直接串流寫入暫存檔，不經過 Heap
+ * 2. 背景執行緒以固定大小的緩衝區逐段讀取（ChunkedLineReader），每 chunkSize 行為一段
+ * 3. 每段資料在驗證執行緒池中平行解析與驗證（與 UserRegistrationRequest 相同的約束）
+ * 4. 驗證通過的資料交給 UserService.registerValidatedUsers：批次檢查重複 Email 後分段寫入
+ * 5. 錯誤依行號寫入 NDJSON 錯誤報告，每段處理完就 flush，匯入期間即可下載
+ *
+ * 任何時刻記憶體中只有一段資料，因此可處理大於 Heap 的檔案
+ *
+ * 結束超過 app.import.retention 的工作會從記憶體移除，並刪除其錯誤報告與工作目錄
+ */
+@Service
+@Slf4j
+public class UserImportServiceImpl implements UserImportService, DisposableBean {
+
+    private final UserService userService;
+    private final ValidationFacade validationFacade;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties properties;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService jobExecutor;
+    private final ExecutorService validationExecutor;
+    private final ScheduledExecutorService cleanupExecutor;
+
+    public UserImportServiceImpl(UserService userService,
+                                 ValidationFacade validationFacade,
+                                 ObjectMapper objectMapper,
+                                 ImportProperties properties) {
+        this.userService = userService;
+        this.validationFacade = validationFacade;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.jobExecutor = Executors.newFixedThreadPool(properties.getConcurrentJobs(), namedThreads("user-import-"));
+        this.validationExecutor = Executors.newFixedThreadPool(properties.getParallelism(), namedThreads("user-import-validate-"));
+        this.cleanupExecutor = Executors.newSingleThreadScheduledExecutor(namedThreads("user-import-cleanup-"));
+
+        // 最晚在保留期限後一分鐘內清除
+        long interval = Math.max(1000, Math.min(properties.getRetention().toMillis(), Duration.ofMinutes(1).toMillis()));
+        cleanupExecutor.scheduleWithFixedDelay(this::evictExpiredJobs, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public ImportJobResponse startImport(InputStream content, ImportFormat format) throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        Path directory = properties.getDirectory().resolve(jobId);
+        Files.createDirectories(directory);
+
+        Path source = directory.resolve("source." + format.name().toLowerCase(Locale.ROOT));
+        long size = Files.copy(content, source);
+
+        ImportJob job = new ImportJob(jobId, format, size, directory.resolve("errors.ndjson"));
+        jobs.put(jobId, job);
+        log.info("建立匯入工作 {}，格式 {}，大小 {} bytes", jobId, format, size);
+
+        jobExecutor.execute(() -> run(job, source));
+        return job.snapshot();
+    }
+
+    @Override
+    public ImportJobResponse getJob(String jobId) {
+        return findJob(jobId).snapshot();
+    }
+
+    @Override
+    public Path getErrorReport(String jobId) {
+        return findJob(jobId).getReportFile();
+    }
+
+    @Override
+    public void destroy() {
+        cleanupExecutor.shutdownNow();
+        jobExecutor.shutdownNow();
+        validationExecutor.shutdownNow();
+    }
+
+    /**
+     * 移除結束超過保留期限的工作，並刪除錯誤報告與工作目錄
+     */
+    private void evictExpiredJobs() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> {
+            if (!job.finishedBefore(cutoff)) {
+                return false;
+            }
+            Path report = job.getReportFile();
+            try {
+                Files.deleteIfExists(report);
+                Files.deleteIfExists(report.getParent());
+            } catch (IOException e) {
+                log.warn("無法刪除匯入工作 {} 的檔案: {}", job.getId(), report.getParent(), e);
+            }
+            log.info("已移除過期的匯入工作 {}", job.getId());
+            return true;
+        });
+    }
+
+    private ImportJob findJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException("找不到匯入工作，ID: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(ImportJob job, Path source) {
+        job.start();
+        try (ChunkedLineReader reader = new ChunkedLineReader(source,
+                (int) properties.getReadBufferSize().toBytes(), (int) properties.getMaxLineLength().toBytes());
+             BufferedWriter report = Files.newBufferedWriter(job.getReportFile(), StandardCharsets.UTF_8)) {
+
+            RecordParser parser = job.getFormat() == ImportFormat.NDJSON ? new NdjsonRecordParser(objectMapper) : null;
+            List<SourceLine> chunk = new ArrayList<>(properties.getChunkSize());
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (parser == null) {
+                    // CSV 的第一個非空白行為欄位名稱
+                    parser = CsvRecordParser.fromHeader(line);
+                    continue;
+                }
+                chunk.add(new SourceLine(lineNumber, line));
+                if (chunk.size() == properties.getChunkSize()) {
+                    processChunk(job, parser, chunk, reader.position(), report);
+                    chunk = new ArrayList<>(properties.getChunkSize());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, parser, chunk, reader.position(), report);
+            }
+
+            job.complete();
+            log.info("匯入工作 {} 完成: {}", job.getId(), job.snapshot());
+        } catch (RecordParseException e) {
+            job.fail(e.getErrors().values().iterator().next());
+        } catch (Exception e) {
+            log.error("匯入工作 {} 失敗", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(source);
+            } catch (IOException e) {
+                log.warn("無法刪除匯入暫存檔: {}", source);
+            }
+        }
+    }
+
+    /**
+     * 平行解析與驗證一段資料，寫入驗證通過的資料，並將錯誤依行號寫入報告
+     */
+    private void processChunk(ImportJob job, RecordParser parser, List<SourceLine> chunk,
+                              long position, BufferedWriter report) throws IOException {
+        // 步驟 1: 依平行度切分後在驗證執行緒池中解析與驗證
+        int sliceSize = Math.max(1, (chunk.size() + properties.getParallelism() - 1) / properties.getParallelism());
+        List<CompletableFuture<List<ParsedLine>>> slices = new ArrayList<>();
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<SourceLine> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            slices.add(CompletableFuture.supplyAsync(
+                    () -> slice.stream().map(line -> parseAndValidate(parser, line)).toList(), validationExecutor));
+        }
+
+        List<ImportError> errors = new ArrayList<>();
+        List<UserRegistrationRequest> valid = new ArrayList<>(chunk.size());
+        List<Long> validLines = new ArrayList<>(chunk.size());
+        for (CompletableFuture<List<ParsedLine>> slice : slices) {
+            for (ParsedLine parsed : slice.join()) {
+                if (parsed.errors().isEmpty()) {
+                    valid.add(parsed.request());
+                    validLines.add(parsed.line());
+                } else {
+                    errors.add(new ImportError(parsed.line(), parsed.errors()));
+                }
+            }
+        }
+
+        // 步驟 2: 檢查重複 Email 並批次寫入
+        BatchRegistrationResponse result = valid.isEmpty()
+                ? new BatchRegistrationResponse(0, 0, 0, List.of(), List.of())
+                : userService.registerValidatedUsers(valid);
+        for (BatchItemError error : result.errors()) {
+            errors.add(new ImportError(validLines.get(error.index()), error.errors()));
+        }
+
+        // 步驟 3: 寫入錯誤報告並更新進度
+        errors.sort(Comparator.comparingLong(ImportError::line));
+        for (ImportError error : errors) {
+            report.write(objectMapper.writeValueAsString(error));
+            report.newLine();
+        }
+        report.flush();
+        job.progress(position, chunk.size(), result.succeeded(), errors.size());
+    }
+
+    private ParsedLine parseAndValidate(RecordParser parser, SourceLine line) {
+        UserRegistrationRequest request;
+        try {
+            request = parser.parse(line.content());
+        } catch (RecordParseException e) {
+            return new ParsedLine(line.number(), null, e.getErrors());
+        }
+
+        ValidationResult result = validationFacade.validate(request);
+        return new ParsedLine(line.number(), request, result.errors());
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record SourceLine(long number, String content) {
+    }
+
+    private record ParsedLine(long line, UserRegistrationRequest request, Map<String, String> errors) {
+    }
+}
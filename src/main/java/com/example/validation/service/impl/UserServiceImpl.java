@@ -1,15 +1,50 @@
 package com.example.validation.service.impl;
 
-import com.example.validation.model.dto.request.UserDataTransfer;
+import com.example.validation.config.CacheConfig;
+import com.example.validation.config.RegistrationProperties;
+import com.example.validation.config.UserQueryProperties;
+import com.example.validation.event.UserRegisteredEvent;
+import com.example.validation.exception.BusinessException;
+import com.example.validation.exception.DuplicateEmailException;
+import com.example.validation.exception.UserNotFoundException;
+import com.example.validation.index.EmailExistenceIndex;
 import com.example.validation.model.dto.request.UserRegistrationRequest;
+import com.example.validation.model.dto.response.BatchItemError;
+import com.example.validation.model.dto.response.BatchRegistrationResponse;
+import com.example.validation.model.dto.response.UserLookupItem;
+import com.example.validation.model.dto.response.UserLookupResponse;
+import com.example.validation.model.dto.response.UserPageResponse;
 import com.example.validation.model.dto.response.UserResponse;
 import com.example.validation.model.entity.User;
+import com.example.validation.repository.UserCursor;
 import com.example.validation.repository.UserRepository;
+import com.example.validation.repository.UserSearchCriteria;
+import com.example.validation.repository.UserSnapshot;
 import com.example.validation.service.UserService;
+import com.example.validation.support.BatchLoader;
+import com.example.validation.support.SingleFlight;
+import com.example.validation.validation.ValidationFacade;
+import com.example.validation.validation.ValidationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 使用者服務實作
@@ -21,7 +56,25 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+    /**
+     * IN 查詢每次帶入的 Email 數量上限
+     */
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    /**
+     * 使用者列表每頁筆數上限
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ValidationFacade validationFacade;
+    private final EmailExistenceIndex emailIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final RegistrationProperties registrationProperties;
+    private final UserQueryProperties userQueryProperties;
+    private final SingleFlight<Long, UserSnapshot> userSnapshotLoads;
+    private final BatchLoader<Long, UserSnapshot> userSnapshotBatchLoader;
 
     /**
      * 註冊新使用者
@@ -29,6 +82,10 @@ public class UserServiceImpl implements UserService {
      * 注意：此方法不需要任何驗證邏輯！
      * 所有基本驗證都已經在 DTO 層透過 Bean Validation 完成
      *
+     * Email 是否重複以資料庫唯一約束為準：先寫入並立即 flush，
+     * 違反 uk_users_email 時轉換為 DuplicateEmailException（400），
+     * 並發註冊同一個 Email 時只會有一個成功，其餘回傳與 @UniqueEmail 相同的欄位錯誤
+     *
      * @param request 使用者註冊請求（已驗證）
      * @return 註冊成功的使用者資訊
      */
@@ -38,37 +95,321 @@ public class UserServiceImpl implements UserService {
         log.info("註冊新使用者: {}", request.email());
 
         // 建立使用者實體
-        User user = new User();
-        user.setName(request.name());
-        user.setEmail(request.email());
-        user.setAge(request.age());
-        // 實際專案中應該使用 PasswordEncoder 加密密碼
-        user.setPassword(request.password());
+        User user = toEntity(request);
 
-        // 儲存到資料庫
-        User savedUser = userRepository.save(user);
+        // 儲存到資料庫（立即 flush，讓唯一約束的錯誤在這裡發生）
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                log.info("Email 已被註冊: {}", request.email());
+                recordInsertResult(request.email(), true);
+                throw new DuplicateEmailException(request.email(), e);
+            }
+            throw e;
+        }
+        recordInsertResult(request.email(), false);
 
         log.info("使用者註冊成功，ID: {}", savedUser.getId());
 
+        // 交易提交後更新 Email 索引
+        eventPublisher.publishEvent(new UserRegisteredEvent(savedUser.getId(), savedUser.getEmail()));
+
         // 轉換為回應 DTO
         return toResponse(savedUser);
     }
 
     /**
-     * 根據 ID 取得使用者資料
+     * 批次註冊使用者
+     *
+     * 流程：
+     * 1. 逐筆驗證（與單筆註冊相同的約束）
+     * 2. 找出批次內重複的 Email，再以 IN 查詢一次找出資料庫中已存在的 Email
+     * 3. 驗證通過的資料依 batchChunkSize 分段，每段一個交易，交易內由 Hibernate 批次 INSERT
+     *
+     * 各段獨立提交，某一段寫入失敗不影響已提交的資料；
+     * 若因並發註冊違反唯一約束，該段會逐筆重試以找出衝突的資料
+     *
+     * @param requests 使用者註冊請求清單
+     * @return 批次註冊結果
+     */
+    @Override
+    public BatchRegistrationResponse registerUsers(List<UserRegistrationRequest> requests) {
+        if (requests.size() > registrationProperties.getBatchMaxSize()) {
+            throw new BusinessException("批次註冊最多 " + registrationProperties.getBatchMaxSize() + " 筆");
+        }
+        log.info("批次註冊使用者，共 {} 筆", requests.size());
+
+        Map<Integer, Map<String, String>> errors = new TreeMap<>();
+
+        // 步驟 1: 逐筆驗證
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UserRegistrationRequest request = requests.get(i);
+            if (request == null) {
+                errors.put(i, Map.of("request", "資料不可為空"));
+                continue;
+            }
+            ValidationResult result = validationFacade.validate(request);
+            if (result.isValid()) {
+                candidates.add(i);
+            } else {
+                errors.put(i, result.errors());
+            }
+        }
+
+        return register(requests, candidates, errors);
+    }
+
+    /**
+     * 批次註冊已驗證的使用者
+     *
+     * 與 registerUsers 相同，但略過逐筆驗證，只檢查重複的 Email 後分段寫入
+     *
+     * @param requests 已通過驗證的使用者註冊請求清單
+     * @return 批次註冊結果
+     */
+    @Override
+    public BatchRegistrationResponse registerValidatedUsers(List<UserRegistrationRequest> requests) {
+        List<Integer> candidates = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            candidates.add(i);
+        }
+        return register(requests, candidates, new TreeMap<>());
+    }
+
+    /**
+     * 檢查重複的 Email 後分段寫入 candidates 指定的資料
+     */
+    private BatchRegistrationResponse register(List<UserRegistrationRequest> requests, List<Integer> candidates,
+                                               Map<Integer, Map<String, String>> errors) {
+        // 步驟 2: 批次內與資料庫中重複的 Email
+        Set<String> seen = new HashSet<>();
+        candidates.removeIf(i -> {
+            if (!seen.add(EmailExistenceIndex.normalize(requests.get(i).email()))) {
+                errors.put(i, Map.of("email", "Email 在批次中重複"));
+                return true;
+            }
+            return false;
+        });
+        Set<String> existing = findExistingEmails(candidates.stream()
+                .map(i -> EmailExistenceIndex.normalize(requests.get(i).email()))
+                .toList());
+        candidates.removeIf(i -> {
+            if (existing.contains(EmailExistenceIndex.normalize(requests.get(i).email()))) {
+                errors.put(i, Map.of("email", "Email 已被註冊"));
+                return true;
+            }
+            return false;
+        });
+
+        // 步驟 3: 分段寫入
+        List<UserResponse> registered = new ArrayList<>(candidates.size());
+        int chunkSize = registrationProperties.getBatchChunkSize();
+        for (int from = 0; from < candidates.size(); from += chunkSize) {
+            List<Integer> chunk = candidates.subList(from, Math.min(from + chunkSize, candidates.size()));
+            registered.addAll(saveChunk(requests, chunk, errors));
+        }
+
+        log.debug("批次註冊完成，成功 {} 筆，失敗 {} 筆", registered.size(), errors.size());
+
+        List<BatchItemError> itemErrors = errors.entrySet().stream()
+                .map(entry -> new BatchItemError(entry.getKey(), entry.getValue()))
+                .toList();
+        return new BatchRegistrationResponse(requests.size(), registered.size(), errors.size(), registered, itemErrors);
+    }
+
+    /**
+     * 以 keyset 分頁查詢使用者列表
+     *
+     * 多查一筆用來判斷是否還有下一頁，下一頁的游標為本頁最後一筆的 (createdAt, id)
+     *
+     * @param criteria 篩選條件
+     * @param cursor   上一頁回應的 nextCursor；null 表示第一頁
+     * @param limit    每頁筆數
+     * @return 本頁的使用者與下一頁的游標
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserPageResponse listUsers(UserSearchCriteria criteria, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BusinessException("每頁筆數必須在 1-" + MAX_PAGE_SIZE + " 之間");
+        }
+        UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+
+        List<UserResponse> users = userRepository.findPage(criteria, after, limit + 1);
+        if (users.size() <= limit) {
+            return new UserPageResponse(users, null);
+        }
+
+        List<UserResponse> page = users.subList(0, limit);
+        UserResponse last = page.get(limit - 1);
+        return new UserPageResponse(List.copyOf(page), new UserCursor(last.createdAt(), last.id()).encode());
+    }
+
+    /**
+     * 一次查詢多位使用者
+     *
+     * 以一次 IN 查詢取得所有使用者，再依請求中的 ID 順序組合結果
+     *
+     * @param ids 使用者 ID（可重複）
+     * @return 依 ID 順序排列的結果，找不到的 ID 會標示為 not found
+     */
+    @Override
+    public UserLookupResponse getUsers(List<Long> ids) {
+        List<Long> requested = ids.stream().filter(Objects::nonNull).toList();
+        if (requested.isEmpty()) {
+            throw new BusinessException("請提供至少一個使用者 ID");
+        }
+        if (requested.size() > userQueryProperties.getMultiGetMaxIds()) {
+            throw new BusinessException("一次最多查詢 " + userQueryProperties.getMultiGetMaxIds() + " 個使用者");
+        }
+
+        Map<Long, UserResponse> found = userRepository.findResponsesByIdIn(new HashSet<>(requested)).stream()
+                .collect(Collectors.toMap(UserResponse::id, Function.identity()));
+
+        List<UserLookupItem> users = requested.stream()
+                .map(id -> new UserLookupItem(id, found.containsKey(id), found.get(id)))
+                .toList();
+        return new UserLookupResponse(users);
+    }
+
+    /**
+     * 取得單一使用者與版本
+     *
+     * 直接查詢投影為 UserSnapshot，不載入 User 實體（包含密碼欄位）
+     *
+     * 結果會快取（userSnapshots），使用者資料變更的交易提交後由 UserCacheInvalidator 清除；
+     * UserSnapshot 是不可變的 record，快取中的物件可以安全地由所有呼叫端共用
+     *
+     * 快取未命中時，同一使用者的並發請求只會查詢一次資料庫（SingleFlight），
+     * 不同使用者的並發請求在短時間內合併為一次 IN 查詢（BatchLoader）；
+     * 等待中的請求不會開啟交易或佔用連線，查詢本身在 Repository 的唯讀交易中執行
      *
      * @param userId 使用者 ID
-     * @return 使用者資料傳輸物件
+     * @return 使用者資料與版本
      */
     @Override
-    public UserDataTransfer getUserData(Long userId) {
-        log.info("取得使用者資料，ID: {}", userId);
+    @Cacheable(cacheNames = CacheConfig.USER_SNAPSHOT_CACHE, key = "#userId")
+    public UserSnapshot getUser(Long userId) {
+        return userSnapshotLoads.execute(userId, () -> {
+            UserSnapshot snapshot = userSnapshotBatchLoader.get(userId);
+            if (snapshot == null) {
+                throw new UserNotFoundException(userId);
+            }
+            return snapshot;
+        });
+    }
+
+    /**
+     * 只取得使用者的版本，不載入其他欄位
+     *
+     * @param userId 使用者 ID
+     * @return 版本
+     */
+    @Override
+    public long getUserVersion(Long userId) {
+        return userRepository.findVersionById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+    }
+
+    private Set<String> findExistingEmails(List<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += IN_CLAUSE_SIZE) {
+            existing.addAll(userRepository.findExistingEmails(
+                    emails.subList(from, Math.min(from + IN_CLAUSE_SIZE, emails.size()))));
+        }
+        return existing;
+    }
+
+    /**
+     * 在單一交易中寫入一段資料；因並發註冊違反唯一約束時改為逐筆寫入
+     */
+    private List<UserResponse> saveChunk(List<UserRegistrationRequest> requests, List<Integer> chunk,
+                                         Map<Integer, Map<String, String>> errors) {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<User> users = userRepository.saveAll(chunk.stream().map(i -> toEntity(requests.get(i))).toList());
+                userRepository.flush();
+                return users.stream().map(this::registered).toList();
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateEmail(e)) {
+                throw e;
+            }
+            log.info("批次寫入時發現重複的 Email，改為逐筆寫入 {} 筆", chunk.size());
+        }
+
+        List<UserResponse> registered = new ArrayList<>();
+        for (Integer i : chunk) {
+            try {
+                registered.add(transactionTemplate.execute(status ->
+                        registered(userRepository.saveAndFlush(toEntity(requests.get(i))))));
+            } catch (DataIntegrityViolationException e) {
+                if (!isDuplicateEmail(e)) {
+                    throw e;
+                }
+                recordInsertResult(requests.get(i).email(), true);
+                errors.put(i, Map.of("email", "Email 已被註冊"));
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * 先寫入模式下 UniqueEmailValidator 不查詢資料庫，改由 INSERT 的結果回報給 Email 索引
+     */
+    private void recordInsertResult(String email, boolean duplicate) {
+        if (registrationProperties.isInsertFirst()) {
+            emailIndex.recordDatabaseResult(email, duplicate);
+        }
+    }
+
+    /**
+     * 發布註冊事件（交易提交後更新 Email 索引）並轉換為回應 DTO
+     */
+    private UserResponse registered(User user) {
+        eventPublisher.publishEvent(new UserRegisteredEvent(user.getId(), user.getEmail()));
+        return toResponse(user);
+    }
+
+    /**
+     * 判斷寫入失敗是否因為違反 Email 唯一約束
+     *
+     * 優先使用 Hibernate 解析出的約束名稱；無法解析時比對 SQLState 23505（unique violation）與錯誤訊息
+     */
+    private static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.hibernate.exception.ConstraintViolationException violation
+                    && containsEmailConstraint(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && "23505".equals(sqlException.getSQLState())
+                    && containsEmailConstraint(sqlException.getMessage())) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("找不到使用者，ID: " + userId));
+    private static boolean containsEmailConstraint(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
+    }
 
-        // 轉換為 UserDataTransfer
-        return UserDataTransfer.fromUser(user);
+    /**
+     * 將註冊請求轉換為 User 實體
+     */
+    private User toEntity(UserRegistrationRequest request) {
+        User user = new User();
+        user.setName(request.name());
+        // 以正規化後的 Email 寫入，讓 uk_users_email 與 Email 索引使用相同的比對規則
+        user.setEmail(EmailExistenceIndex.normalize(request.email()));
+        user.setAge(request.age());
+        // 實際專案中應該使用 PasswordEncoder 加密密碼
+        user.setPassword(request.password());
+        return user;
     }
 
     /**
@@ -0,0 +1,187 @@
+package com.example.validation.service.impl;
+
+import com.example.validation.config.VipProperties;
+import com.example.validation.exception.BusinessException;
+import com.example.validation.model.dto.request.UserVipRequest;
+import com.example.validation.model.dto.response.VipBatchValidationResponse;
+import com.example.validation.service.VipValidationService;
+import com.example.validation.validation.compiled.CompiledValidator;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * VIP 會員驗證服務實作
+ *
+ * 重點：
+ * 1. 直接呼叫 UserVipRequest 的編譯期驗證器，不經過 BindingResult 與 Hibernate Validator
+ * 2. 在專用的 ForkJoinPool 上以分治方式平行驗證，不佔用 common pool
+ * 3. 每筆結果寫入預先配置的陣列，通過驗證的資料不會建立違反清單
+ * 4. 請求以 JsonParser 逐筆解析，超過筆數上限時立即中止；結果以 JsonGenerator 逐筆寫出
+ */
+@Service
+@Slf4j
+public class VipValidationServiceImpl implements VipValidationService, DisposableBean {
+
+    /**
+     * 單一工作直接驗證的筆數上限，超過時再分割
+     */
+    private static final int SPLIT_THRESHOLD = 1024;
+
+    private static final List<String> NULL_REQUEST = List.of("request:NotNull");
+
+    private final CompiledValidator<UserVipRequest> validator;
+    private final VipProperties vipProperties;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+
+    public VipValidationServiceImpl(CompiledValidator<UserVipRequest> validator, VipProperties vipProperties,
+                                    ObjectMapper objectMapper) {
+        this.validator = validator;
+        this.vipProperties = vipProperties;
+        this.objectMapper = objectMapper;
+        int parallelism = vipProperties.getBatchParallelism() > 0
+                ? vipProperties.getBatchParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public VipBatchValidationResponse validateBatch(InputStream input) throws IOException {
+        UserVipRequest[] items = read(input);
+        long start = System.currentTimeMillis();
+
+        List<String>[] violations = newViolationArray(items.length);
+        pool.invoke(new ValidateRange(items, violations, 0, items.length));
+
+        int passed = 0;
+        for (List<String> itemViolations : violations) {
+            if (itemViolations.isEmpty()) {
+                passed++;
+            }
+        }
+        log.info("批次 VIP 驗證完成，共 {} 筆，通過 {} 筆，耗時 {} ms",
+                items.length, passed, System.currentTimeMillis() - start);
+        return new VipBatchValidationResponse(items.length, passed, items.length - passed, Arrays.asList(violations));
+    }
+
+    @Override
+    public void writeBatch(VipBatchValidationResponse response, OutputStream output) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNumberField("total", response.total());
+            generator.writeNumberField("passed", response.passed());
+            generator.writeNumberField("failed", response.failed());
+            generator.writeArrayFieldStart("results");
+            List<List<String>> violations = response.violations();
+            for (int i = 0; i < violations.size(); i++) {
+                List<String> itemViolations = violations.get(i);
+                generator.writeStartObject();
+                generator.writeNumberField("index", i);
+                generator.writeBooleanField("valid", itemViolations.isEmpty());
+                if (!itemViolations.isEmpty()) {
+                    generator.writeArrayFieldStart("violations");
+                    for (String violation : itemViolations) {
+                        generator.writeString(violation);
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 逐筆解析 JSON 陣列；筆數超過上限時立即拋出 BusinessException，不再讀取剩餘內容
+     */
+    private UserVipRequest[] read(InputStream input) throws IOException {
+        int maxSize = vipProperties.getBatchMaxSize();
+        List<UserVipRequest> items = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException("請求內容必須是 JSON 陣列");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BusinessException("JSON 格式錯誤: 陣列未結束");
+                }
+                if (items.size() == maxSize) {
+                    throw new BusinessException("批次驗證最多 " + maxSize + " 筆");
+                }
+                items.add(token == JsonToken.VALUE_NULL ? null : objectMapper.readValue(parser, UserVipRequest.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("JSON 格式錯誤: " + e.getOriginalMessage());
+        }
+        return items.toArray(new UserVipRequest[0]);
+    }
+
+    private List<String> validate(UserVipRequest request) {
+        if (request == null) {
+            return NULL_REQUEST;
+        }
+        List<String> violations = new ArrayList<>(0);
+        validator.validate(request, (field, code, invalidValue, message) -> violations.add(field + ":" + code));
+        return violations.isEmpty() ? List.of() : violations;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newViolationArray(int length) {
+        return (List<String>[]) new List<?>[length];
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 驗證 [from, to) 範圍內的資料；範圍過大時對半分割
+     */
+    private final class ValidateRange extends RecursiveAction {
+
+        private final UserVipRequest[] items;
+        private final List<String>[] violations;
+        private final int from;
+        private final int to;
+
+        ValidateRange(UserVipRequest[] items, List<String>[] violations, int from, int to) {
+            this.items = items;
+            this.violations = violations;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    violations[i] = validate(items[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ValidateRange(items, violations, from, middle),
+                    new ValidateRange(items, violations, middle, to));
+        }
+    }
+}
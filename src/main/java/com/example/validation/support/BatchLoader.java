@@ -0,0 +1,171 @@
+package com.example.validation.support;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 將短時間內的多個單筆載入合併為一次批次載入（DataLoader 模式）
+ *
+ * 規則：
+ * 1. 沒有批次執行中時，載入立即送出，不等待 window
+ * 2. 有批次執行中時才開始收集：經過 window、累積到 maxBatchSize 筆，
+ *    或執行中的批次全部完成時送出，因此只有並發時才可能增加延遲（最多 window）
+ * 3. 同一批次內相同的 key 只載入一次
+ * 4. 批次載入在獨立的執行緒池執行，不會阻塞計時器
+ * 5. 批次結果中沒有的 key 以 null 完成；批次載入失敗時，整批的呼叫者都收到同一個例外
+ *
+ * @param <K> key 類型
+ * @param <V> 結果類型
+ */
+public class BatchLoader<K, V> implements AutoCloseable {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration timeout;
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService executor;
+
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private long generation;
+    private int inFlight;
+
+    /**
+     * @param name          執行緒名稱前綴
+     * @param batchFunction 批次載入邏輯，回傳 key 對應的結果
+     * @param window        有批次執行中時，等待更多載入的最長時間
+     * @param maxBatchSize  單一批次的最大筆數
+     * @param concurrency   同時執行的批次數
+     * @param timeout       呼叫端等待結果的最長時間
+     */
+    public BatchLoader(String name, Function<Collection<K>, Map<K, V>> batchFunction,
+                       Duration window, int maxBatchSize, int concurrency, Duration timeout) {
+        this.batchFunction = batchFunction;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(namedThreads(name + "-timer-"));
+        this.executor = Executors.newFixedThreadPool(concurrency, namedThreads(name + "-"));
+    }
+
+    /**
+     * 加入目前的批次
+     *
+     * @param key key
+     * @return 批次完成後的結果
+     */
+    public CompletableFuture<V> load(K key) {
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        synchronized (lock) {
+            future = pending.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+            if (pending.size() >= maxBatchSize || inFlight == 0) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                long batch = generation;
+                scheduler.schedule(() -> flush(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    /**
+     * 加入目前的批次並等待結果
+     *
+     * @param key key
+     * @return 載入結果；不存在時為 null
+     * @throws LoadTimeoutException 超過 timeout 仍未完成
+     */
+    public V get(K key) {
+        return Futures.await(load(key), timeout, key);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+    }
+
+    /**
+     * 計時結束：送出仍屬於同一批次的資料（批次已因滿載送出時不處理）
+     */
+    private void flush(long batch) {
+        Map<K, CompletableFuture<V>> due;
+        synchronized (lock) {
+            if (batch != generation || pending.isEmpty()) {
+                return;
+            }
+            due = takePending();
+        }
+        dispatch(due);
+    }
+
+    /**
+     * 取出目前收集的資料作為一個批次；必須持有 lock
+     */
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> taken = pending;
+        pending = new LinkedHashMap<>();
+        generation++;
+        inFlight++;
+        return taken;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        executor.execute(() -> {
+            try {
+                Map<K, V> results = batchFunction.apply(batch.keySet());
+                batch.forEach((key, future) -> future.complete(results.get(key)));
+            } catch (RuntimeException | Error e) {
+                batch.values().forEach(future -> future.completeExceptionally(e));
+            } finally {
+                completed();
+            }
+        });
+    }
+
+    /**
+     * 批次完成：沒有其他批次執行中時，立即送出執行期間收集的資料，不再等待 window
+     */
+    private void completed() {
+        Map<K, CompletableFuture<V>> next = null;
+        synchronized (lock) {
+            inFlight--;
+            if (inFlight == 0 && !pending.isEmpty()) {
+                next = takePending();
+            }
+        }
+        if (next != null) {
+            dispatch(next);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
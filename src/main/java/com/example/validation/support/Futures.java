@@ -0,0 +1,44 @@
+package com.example.validation.support;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 等待 CompletableFuture 結果的共用邏輯
+ */
+final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * 等待結果，載入失敗時拋出與載入者相同的例外
+     *
+     * @param future  結果
+     * @param timeout 最長等待時間
+     * @param key     用於錯誤訊息的 key
+     * @return 載入結果
+     * @throws LoadTimeoutException 逾時或被中斷
+     */
+    static <V> V await(CompletableFuture<V> future, Duration timeout, Object key) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new LoadTimeoutException("等待載入逾時，key: " + key + "，逾時: " + timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LoadTimeoutException("等待載入時被中斷，key: " + key);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.validation.support;
+
+/**
+ * 等待載入結果逾時（SingleFlight 等待其他呼叫者、BatchLoader 等待批次查詢）
+ */
+public class LoadTimeoutException extends RuntimeException {
+
+    public LoadTimeoutException(String message) {
+        super(message);
+    }
+}
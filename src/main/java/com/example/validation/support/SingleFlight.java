@@ -0,0 +1,65 @@
+package com.example.validation.support;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 合併相同 key 的並發載入（single-flight）
+ *
+ * 同一個 key 同時只會有一個載入在執行：
+ * 1. 第一個呼叫者在自己的執行緒中執行載入
+ * 2. 載入期間的其他呼叫者等待同一個結果，最多等待 timeout
+ * 3. 載入失敗時，所有等待者收到同一個例外
+ * 4. 載入結束後立即移除，不會快取結果（快取由呼叫端負責）
+ *
+ * @param <K> key 類型
+ * @param <V> 結果類型
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    /**
+     * @param timeout 等待其他呼叫者載入結果的最長時間
+     */
+    public SingleFlight(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * 執行載入，或等待相同 key 正在執行的載入
+     *
+     * @param key    key
+     * @param loader 載入邏輯
+     * @return 載入結果
+     * @throws LoadTimeoutException 等待其他呼叫者的載入逾時
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return Futures.await(existing, timeout, key);
+        }
+
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return 目前正在執行的載入數量
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
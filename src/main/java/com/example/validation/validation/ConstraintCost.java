@@ -0,0 +1,38 @@
+package com.example.validation.validation;
+
+/**
+ * 約束的執行成本
+ *
+ * 內建約束（@NotBlank、@Email 等）一律視為 CHEAP；
+ * 自定義約束可以在註解上宣告 cost 屬性，例如：
+ * <pre>
+ * public @interface UniqueEmail {
+ *     ConstraintCost cost() default ConstraintCost.EXPENSIVE;
+ * }
+ * </pre>
+ *
+ * 編譯期驗證器會依成本排序：先執行所有 CHEAP 約束，
+ * 較高成本的約束只會對尚未違反任何約束的屬性執行
+ *
+ * 限制：沒有編譯期驗證器的類型、帶有分組提示的驗證，以及方法參數驗證都由
+ * Hibernate Validator 執行，不會依成本排序（約束的執行順序沒有保證）。
+ * 高成本約束的驗證器應自行略過其他約束會拒絕的值，例如 UniqueEmailValidator
+ * 不會為格式錯誤的 Email 查詢索引或資料庫
+ */
+public enum ConstraintCost {
+
+    /**
+     * 純記憶體運算，例如格式與範圍檢查
+     */
+    CHEAP,
+
+    /**
+     * 需要額外計算或本機快取查詢
+     */
+    MODERATE,
+
+    /**
+     * 需要存取資料庫或外部服務
+     */
+    EXPENSIVE
+}
@@ -0,0 +1,19 @@
+package com.example.validation.validation;
+
+/**
+ * 提前結束（fail-fast）驗證提示
+ *
+ * 作為 @Validated 的提示使用時，驗證會在第一個違反的約束後立即停止，
+ * 不會再執行後面（例如查詢資料庫的 @UniqueEmail）的約束
+ *
+ * 用法範例：
+ * <pre>
+ * &#64;PostMapping("/register")
+ * public ResponseEntity&lt;UserResponse&gt; registerUser(
+ *         &#64;Validated(FailFast.class) &#64;RequestBody UserRegistrationRequest request) { ... }
+ * </pre>
+ *
+ * 注意：這不是驗證分組，CompiledValidatorAdapter 會在交給 Hibernate Validator 前移除此提示
+ */
+public interface FailFast {
+}
@@ -0,0 +1,47 @@
+package com.example.validation.validation;
+
+import com.example.validation.exception.BusinessException;
+import com.example.validation.model.dto.request.UserRegistrationRequest;
+import com.example.validation.model.dto.request.UserVipRequest;
+
+import java.util.Locale;
+
+/**
+ * 串流驗證的資料型別（POST /api/users/validate/stream 的 type 參數）
+ */
+public enum StreamValidationType {
+
+    /**
+     * 每行一個 UserVipRequest
+     */
+    VIP(UserVipRequest.class),
+
+    /**
+     * 每行一個 UserRegistrationRequest
+     */
+    REGISTRATION(UserRegistrationRequest.class);
+
+    private final Class<?> requestType;
+
+    StreamValidationType(Class<?> requestType) {
+        this.requestType = requestType;
+    }
+
+    public Class<?> requestType() {
+        return requestType;
+    }
+
+    /**
+     * 依名稱取得型別（不分大小寫）
+     *
+     * @param name 型別名稱，例如 vip、registration
+     * @return 串流驗證的資料型別
+     */
+    public static StreamValidationType from(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("不支援的驗證型別: " + name);
+        }
+    }
+}
@@ -38,4 +38,10 @@ public @interface UniqueEmail {
      * 附加資訊（用於攜帶元數據）
      */
     Class<? extends Payload>[] payload() default {};
+
+    /**
+     * 執行成本：需要查詢資料庫，因此排在同一屬性的其他約束之後，
+     * 且 Email 已經格式錯誤時不會執行
+     */
+    ConstraintCost cost() default ConstraintCost.EXPENSIVE;
 }
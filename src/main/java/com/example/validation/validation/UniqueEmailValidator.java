@@ -1,6 +1,9 @@
 package com.example.validation.validation;
 
+import com.example.validation.config.RegistrationProperties;
+import com.example.validation.index.EmailExistenceIndex;
 import com.example.validation.repository.UserRepository;
+import com.example.validation.validation.compiled.BuiltinConstraints;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,17 +13,37 @@ import org.springframework.stereotype.Component;
  * UniqueEmail 驗證器實作
  *
  * 負責檢查 Email 是否已存在於資料庫中
+ *
+ * 優先查詢 Email 索引（記憶體或 Bloom Filter），只有索引無法確定時才查詢資料庫
+ *
+ * 先寫入模式（app.registration.insert-first）下索引無法確定時直接通過，
+ * 由資料庫唯一約束在 INSERT 時判斷；這也是並發註冊時唯一可靠的檢查
+ *
+ * 格式錯誤的 Email 直接通過，交給 @Email 回報；Hibernate Validator 不保證約束的執行順序，
+ * 這樣不論走哪條驗證路徑都不會為無效的 Email 查詢資料庫
  */
 @Component
 public class UniqueEmailValidator implements ConstraintValidator<UniqueEmail, String> {
 
     private UserRepository userRepository;
+    private EmailExistenceIndex emailIndex;
+    private RegistrationProperties registrationProperties;
 
     @Autowired
     public void setUserRepository(UserRepository userRepository) {
         this.userRepository = userRepository;
     }
 
+    @Autowired
+    public void setEmailIndex(EmailExistenceIndex emailIndex) {
+        this.emailIndex = emailIndex;
+    }
+
+    @Autowired
+    public void setRegistrationProperties(RegistrationProperties registrationProperties) {
+        this.registrationProperties = registrationProperties;
+    }
+
     /**
      * 驗證 Email 是否唯一
      *
@@ -34,8 +57,23 @@ public class UniqueEmailValidator implements ConstraintValidator<UniqueEmail, St
         if (email == null) {
             return true;
         }
+        // 格式錯誤由 @Email 處理
+        if (!BuiltinConstraints.email(email)) {
+            return true;
+        }
 
-        // 檢查資料庫中是否已存在此 Email
-        return !userRepository.existsByEmail(email);
+        // 先查詢索引，無法確定時交給資料庫（先寫入模式下由 INSERT 判斷）
+        return switch (emailIndex.lookup(email)) {
+            case PRESENT -> false;
+            case ABSENT -> true;
+            case UNKNOWN -> {
+                if (registrationProperties.isInsertFirst()) {
+                    yield true;
+                }
+                boolean exists = userRepository.isEmailRegistered(EmailExistenceIndex.normalize(email));
+                emailIndex.recordDatabaseResult(email, exists);
+                yield !exists;
+            }
+        };
     }
 }
@@ -0,0 +1,69 @@
+package com.example.validation.validation;
+
+import com.example.validation.validation.compiled.CompiledValidator;
+import com.example.validation.validation.compiled.ViolationSink;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 不拋出例外的程式化驗證
+ *
+ * 供 Service 與批次工作在迴圈中驗證資料：驗證失敗時回傳 ValidationResult，
+ * 不建立 ConstraintViolationException 與堆疊追蹤，也不需要 BindingResult
+ *
+ * 重點：
+ * 1. 有編譯期驗證器的類型直接呼叫產生的程式碼，其他類型交給 Hibernate Validator
+ * 2. 一律收集所有錯誤，不受 X-Validation-Mode 標頭影響
+ * 3. 需要回應 HTTP 時，由呼叫端將結果轉為 ErrorResponse
+ */
+@Component
+public class ValidationFacade {
+
+    private final Map<Class<?>, CompiledValidator<?>> compiledValidators = new HashMap<>();
+    private final Validator validator;
+
+    public ValidationFacade(List<CompiledValidator<?>> compiledValidators, Validator validator) {
+        for (CompiledValidator<?> compiledValidator : compiledValidators) {
+            this.compiledValidators.put(compiledValidator.supportedType(), compiledValidator);
+        }
+        this.validator = validator;
+    }
+
+    /**
+     * 驗證物件上宣告的所有約束
+     *
+     * @param target 要驗證的物件（不可為 null）
+     * @return 驗證結果；通過時 isValid() 為 true
+     */
+    public ValidationResult validate(Object target) {
+        @SuppressWarnings("unchecked")
+        CompiledValidator<Object> compiled = (CompiledValidator<Object>) compiledValidators.get(target.getClass());
+        if (compiled == null) {
+            return ValidationResult.of(validator.validate(target));
+        }
+        CollectingSink sink = new CollectingSink();
+        compiled.validate(target, sink);
+        return sink.errors == null ? ValidationResult.valid() : new ValidationResult(sink.errors);
+    }
+
+    /**
+     * 收集錯誤訊息（同一欄位保留第一個）；沒有錯誤時不配置 Map
+     */
+    private static final class CollectingSink implements ViolationSink {
+
+        private Map<String, String> errors;
+
+        @Override
+        public void addViolation(String field, String code, Object invalidValue, String message) {
+            if (errors == null) {
+                errors = new LinkedHashMap<>();
+            }
+            errors.putIfAbsent(field, message);
+        }
+    }
+}
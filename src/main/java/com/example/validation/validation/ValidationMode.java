@@ -0,0 +1,41 @@
+package com.example.validation.validation;
+
+/**
+ * 驗證模式
+ *
+ * 預設模式由 Controller 端點決定（@Validated(FailFast.class)），
+ * 呼叫端也可以透過 X-Validation-Mode 標頭覆寫：
+ * - fail-fast：遇到第一個錯誤就停止
+ * - all：收集所有錯誤
+ */
+public enum ValidationMode {
+
+    /**
+     * 收集所有違反的約束
+     */
+    ALL,
+
+    /**
+     * 遇到第一個違反的約束就停止
+     */
+    FAIL_FAST;
+
+    public static final String HEADER = "X-Validation-Mode";
+
+    /**
+     * 解析標頭值；無法辨識時回傳 null，表示沿用端點的預設模式
+     *
+     * @param value X-Validation-Mode 標頭值
+     * @return 對應的驗證模式，或 null
+     */
+    public static ValidationMode fromHeader(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "fail-fast" -> FAIL_FAST;
+            case "all" -> ALL;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.validation.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ElementKind;
+import jakarta.validation.Path;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 程式化驗證的結果
+ *
+ * 驗證失敗不拋出例外，只回傳欄位名稱與錯誤訊息（同一欄位保留第一個錯誤）；
+ * 通過驗證時共用同一個實例，不配置任何物件
+ *
+ * @param errors 欄位名稱與錯誤訊息，依驗證順序排列；通過時為空
+ */
+public record ValidationResult(Map<String, String> errors) {
+
+    private static final ValidationResult VALID = new ValidationResult(Map.of());
+
+    private static final Comparator<ConstraintViolation<?>> VIOLATION_ORDER =
+            Comparator.<ConstraintViolation<?>, String>comparing(violation -> violation.getPropertyPath().toString())
+                    .thenComparing(violation -> violation.getConstraintDescriptor().getAnnotation()
+                            .annotationType().getName())
+                    .thenComparing(ConstraintViolation::getMessage);
+
+    public ValidationResult {
+        errors = errors.isEmpty() ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(errors));
+    }
+
+    /**
+     * @return 通過驗證的結果
+     */
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * 將 Bean Validation 的約束違反轉換為結果
+     *
+     * 欄位名稱取自屬性路徑中最後一個屬性或方法參數節點，
+     * 例如 updatePhone.newPhone 為 newPhone、updateProfile.userData.email 為 email。
+     * 約束違反是沒有順序的 Set，先依屬性路徑、約束類型與訊息排序，同一欄位的錯誤每次都相同
+     *
+     * @param violations 約束違反
+     * @return 驗證結果
+     */
+    public static ValidationResult of(Collection<? extends ConstraintViolation<?>> violations) {
+        if (violations.isEmpty()) {
+            return VALID;
+        }
+        List<ConstraintViolation<?>> sorted = new ArrayList<>(violations);
+        sorted.sort(VIOLATION_ORDER);
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<?> violation : sorted) {
+            errors.putIfAbsent(fieldName(violation.getPropertyPath()), violation.getMessage());
+        }
+        return new ValidationResult(errors);
+    }
+
+    /**
+     * @return 是否通過驗證
+     */
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    private static String fieldName(Path path) {
+        String field = null;
+        for (Path.Node node : path) {
+            if (node.getKind() == ElementKind.PROPERTY || node.getKind() == ElementKind.PARAMETER) {
+                field = node.getName();
+            }
+        }
+        return field != null ? field : path.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.validation.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 自定義驗證註解：依 VIP 等級規則表（VipTierRules）檢查 VipMembership
+ *
+ * 規則來自設定檔並可熱重新載入，因此不寫死在 DTO 中。
+ * 與 @Rule 相同，標註在實作 VipMembership 的類別上，違反時回報在 field 指定的欄位：
+ * <pre>
+ * &#64;VipTierRule(value = VipTierRule.Check.DISCOUNT, field = "validVipDiscount",
+ *              message = "VIP 等級與折扣率不符合規則")
+ * public record UserVipRequest(...) implements VipMembership { ... }
+ * </pre>
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = VipTierRuleValidator.class)
+@Repeatable(VipTierRule.List.class)
+public @interface VipTierRule {
+
+    /**
+     * 要檢查的規則
+     */
+    Check value();
+
+    /**
+     * 違反規則時回報的欄位名稱（錯誤回應中的 key）
+     */
+    String field();
+
+    /**
+     * 驗證失敗時的錯誤訊息
+     */
+    String message() default "不符合 VIP 等級規則";
+
+    /**
+     * 驗證組（用於分組驗證）
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * 附加資訊（用於攜帶元數據）
+     */
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * 同一個類別宣告多個規則時使用
+     */
+    @Target({ElementType.TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+        VipTierRule[] value();
+    }
+
+    enum Check {
+
+        /**
+         * 等級必須存在，且折扣率在該等級的範圍內
+         */
+        DISCOUNT,
+
+        /**
+         * 年齡必須達到該等級的最低年齡
+         */
+        MINIMUM_AGE
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.validation.validation;
+
+import com.example.validation.model.dto.request.VipMembership;
+import com.example.validation.vip.VipTierRules;
+import com.example.validation.vip.VipTierTable;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * VipTierRule 驗證器實作
+ *
+ * UserVipRequest 與 UserUpdateRequest 共用；每次驗證讀取目前的規則表，
+ * 規則重新載入後立即生效。
+ * 每個約束各有一個實例（記住 initialize 的檢查項目與回報欄位），由 Hibernate Validator 的
+ * SpringConstraintValidatorFactory 與編譯期驗證器的 ConstraintSupport 以 createBean 建立並注入，
+ * 因此不註冊為單例 Bean
+ */
+public class VipTierRuleValidator implements ConstraintValidator<VipTierRule, VipMembership> {
+
+    private VipTierRules vipTierRules;
+    private VipTierRule.Check check;
+    private String field;
+
+    @Autowired
+    public void setVipTierRules(VipTierRules vipTierRules) {
+        this.vipTierRules = vipTierRules;
+    }
+
+    @Override
+    public void initialize(VipTierRule constraintAnnotation) {
+        this.check = constraintAnnotation.value();
+        this.field = constraintAnnotation.field();
+    }
+
+    /**
+     * 依規則表驗證等級、折扣率與年齡，違反時將錯誤回報在 field 指定的欄位
+     *
+     * @param membership 會員資料
+     * @param context 驗證上下文
+     * @return true 表示符合規則；未提供等級或對應欄位時視為通過
+     */
+    @Override
+    public boolean isValid(VipMembership membership, ConstraintValidatorContext context) {
+        if (membership == null || membership.vipLevel() == null) {
+            return true;
+        }
+
+        VipTierTable table = vipTierRules.current();
+        int level = membership.vipLevel();
+        boolean valid = switch (check) {
+            case DISCOUNT -> membership.discountRate() == null
+                    || table.allowsDiscount(level, membership.discountRate());
+            case MINIMUM_AGE -> membership.age() == null
+                    || table.allowsAge(level, membership.age());
+        };
+        if (valid) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode(field)
+                .addConstraintViolation();
+        return false;
+    }
+}
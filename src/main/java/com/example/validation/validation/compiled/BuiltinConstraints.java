@@ -0,0 +1,134 @@
+package com.example.validation.validation.compiled;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.IDN;
+import java.util.Collection;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 內建約束的檢查邏輯（供產生的驗證器呼叫）
+ *
+ * 語意與 Hibernate Validator 的對應實作一致：除了 @NotNull / @NotBlank / @NotEmpty，
+ * 其餘約束遇到 null 一律視為通過
+ */
+public final class BuiltinConstraints {
+
+    /**
+     * Email 規則與 Hibernate Validator 的 @Email 實作相同（本地部分、網域標籤、[IPv4] / [IPv6:...] 網域），
+     * 自行維護以避免依賴其內部類別
+     */
+    private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+    private static final String LOCAL_PART_INSIDE_QUOTES_ATOM =
+            "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\")";
+    private static final String LOCAL_PART_WORD =
+            "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")";
+    private static final Pattern EMAIL_LOCAL_PART = Pattern.compile(
+            LOCAL_PART_WORD + "(?:\\." + LOCAL_PART_WORD + ")*", Pattern.CASE_INSENSITIVE);
+
+    private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+    private static final String DOMAIN_LABEL =
+            DOMAIN_CHARS_WITHOUT_DASH + "+(?:-+" + DOMAIN_CHARS_WITHOUT_DASH + "+)*";
+    private static final Pattern EMAIL_DOMAIN = Pattern.compile(
+            DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*"
+                    + "|\\[[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\]"
+                    + "|\\[IPv6:[0-9a-f:.]+\\]",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_DOMAIN_PART_LENGTH = 255;
+
+    private BuiltinConstraints() {
+    }
+
+    public static boolean notBlank(CharSequence value) {
+        return value != null && !value.toString().trim().isEmpty();
+    }
+
+    public static boolean notEmpty(CharSequence value) {
+        return value != null && value.length() > 0;
+    }
+
+    public static boolean notEmpty(Collection<?> value) {
+        return value != null && !value.isEmpty();
+    }
+
+    public static boolean notEmpty(Map<?, ?> value) {
+        return value != null && !value.isEmpty();
+    }
+
+    public static boolean size(CharSequence value, int min, int max) {
+        return value == null || (value.length() >= min && value.length() <= max);
+    }
+
+    public static boolean size(Collection<?> value, int min, int max) {
+        return value == null || (value.size() >= min && value.size() <= max);
+    }
+
+    public static boolean size(Map<?, ?> value, int min, int max) {
+        return value == null || (value.size() >= min && value.size() <= max);
+    }
+
+    public static boolean min(Number value, long min) {
+        return value == null || (!isNaN(value) && compare(value, min) >= 0);
+    }
+
+    public static boolean max(Number value, long max) {
+        return value == null || (!isNaN(value) && compare(value, max) <= 0);
+    }
+
+    public static boolean email(CharSequence value) {
+        if (value == null || value.length() == 0) {
+            return true;
+        }
+        String email = value.toString();
+        int at = email.lastIndexOf('@');
+        if (at < 0) {
+            return false;
+        }
+        String localPart = email.substring(0, at);
+        String domainPart = email.substring(at + 1);
+        return localPart.length() <= MAX_LOCAL_PART_LENGTH
+                && EMAIL_LOCAL_PART.matcher(localPart).matches()
+                && isValidEmailDomain(domainPart);
+    }
+
+    public static boolean matches(CharSequence value, Pattern pattern) {
+        return value == null || pattern.matcher(value).matches();
+    }
+
+    private static boolean isValidEmailDomain(String domain) {
+        if (domain.isEmpty() || domain.endsWith(".")) {
+            return false;
+        }
+        try {
+            if (IDN.toASCII(domain).length() > MAX_DOMAIN_PART_LENGTH) {
+                return false;
+            }
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        return EMAIL_DOMAIN.matcher(domain).matches();
+    }
+
+    /**
+     * NaN 無法與任何邊界比較，一律視為不通過
+     */
+    private static boolean isNaN(Number value) {
+        return (value instanceof Double || value instanceof Float) && Double.isNaN(value.doubleValue());
+    }
+
+    private static int compare(Number value, long bound) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.compareTo(BigDecimal.valueOf(bound));
+        }
+        if (value instanceof BigInteger integer) {
+            return integer.compareTo(BigInteger.valueOf(bound));
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return Double.compare(value.doubleValue(), bound);
+        }
+        return Long.compare(value.longValue(), bound);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.validation.validation.compiled;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ValidationException;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+
+/**
+ * 產生的驗證器呼叫自定義驗證器時傳入的 ConstraintValidatorContext
+ *
+ * 編譯期驗證器一律回報註解上的字面訊息，因此自訂違反訊息的呼叫會被接受但不產生效果；
+ * 實作不保存狀態，所有驗證共用同一個實例
+ */
+public final class CompiledConstraintContext implements ConstraintValidatorContext {
+
+    public static final CompiledConstraintContext INSTANCE = new CompiledConstraintContext();
+
+    private static final ClockProvider CLOCK_PROVIDER = Clock::systemDefaultZone;
+
+    /**
+     * 違反訊息建構器的呼叫鏈：每個建構器介面各對應一個無狀態代理，
+     * addConstraintViolation 回傳 context 本身，其餘方法回傳下一層介面的代理
+     */
+    private static final ClassValue<Object> VIOLATION_BUILDERS = new ClassValue<>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return switch (method.getName()) {
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        default -> type.getSimpleName();
+                    };
+                }
+                Class<?> next = method.getReturnType();
+                return next == ConstraintValidatorContext.class ? INSTANCE : get(next);
+            });
+        }
+    };
+
+    private CompiledConstraintContext() {
+    }
+
+    @Override
+    public void disableDefaultConstraintViolation() {
+        // 違反訊息固定使用註解上的字面訊息
+    }
+
+    @Override
+    public String getDefaultConstraintMessageTemplate() {
+        return "";
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return CLOCK_PROVIDER;
+    }
+
+    @Override
+    public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+        return (ConstraintViolationBuilder) VIOLATION_BUILDERS.get(ConstraintViolationBuilder.class);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("不支援轉換為 " + type.getName());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.validation.validation.compiled;
+
+/**
+ * 編譯期產生的驗證器介面
+ *
+ * 實作類別由 validation-processor 產生，並註冊為 Spring Bean
+ *
+ * @param <T> 驗證的 DTO 類型
+ */
+public interface CompiledValidator<T> {
+
+    /**
+     * @return 此驗證器負責的 DTO 類型
+     */
+    Class<T> supportedType();
+
+    /**
+     * 驗證物件，並將每個違反的約束回報給 sink
+     *
+     * @param target 要驗證的物件（不可為 null）
+     * @param sink   違反約束的接收者
+     */
+    void validate(T target, ViolationSink sink);
+}
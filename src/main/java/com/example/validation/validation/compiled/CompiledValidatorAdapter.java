@@ -0,0 +1,209 @@
+package com.example.validation.validation.compiled;
+
+import com.example.validation.validation.FailFast;
+import com.example.validation.validation.ValidationMode;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring MVC 使用的驗證器
+ *
+ * 有編譯期驗證器的類型直接呼叫產生的程式碼；其他類型（或帶有分組提示時）
+ * 交給 Hibernate Validator 處理
+ *
+ * 驗證失敗一樣會寫入 BindingResult，因此 Controller 的 @Valid 與
+ * GlobalExceptionHandler 不需要任何修改
+ *
+ * 驗證模式：
+ * 1. 端點以 @Validated(FailFast.class) 宣告預設為 fail-fast
+ * 2. 請求標頭 X-Validation-Mode 可覆寫端點的預設模式；標頭只在參數綁定時由
+ *    ValidationModeBinderAdvice 讀取一次，並改用 forMode 回傳的驗證器
+ * 3. fail-fast 模式下，兩條驗證路徑都會在第一個違反的約束後停止
+ *
+ * 交給 Hibernate Validator 的路徑不套用 ConstraintCost 排序，詳見 ConstraintCost
+ */
+@Component
+@Slf4j
+public class CompiledValidatorAdapter implements SmartValidator, DisposableBean {
+
+    private static final Object[] NO_HINTS = new Object[0];
+
+    private final Map<Class<?>, CompiledValidator<?>> compiledValidators = new HashMap<>();
+    private final SpringValidatorAdapter fallback;
+    private final LocalValidatorFactoryBean failFastFallback;
+    private final Map<ValidationMode, SmartValidator> modeOverrides = new EnumMap<>(ValidationMode.class);
+
+    public CompiledValidatorAdapter(List<CompiledValidator<?>> compiledValidators,
+                                    Validator validator,
+                                    ApplicationContext applicationContext) {
+        for (CompiledValidator<?> compiledValidator : compiledValidators) {
+            this.compiledValidators.put(compiledValidator.supportedType(), compiledValidator);
+        }
+        this.fallback = new SpringValidatorAdapter(validator);
+        this.failFastFallback = createFailFastValidator(applicationContext);
+        for (ValidationMode mode : ValidationMode.values()) {
+            this.modeOverrides.put(mode, new ModeOverride(mode));
+        }
+        log.info("已載入 {} 個編譯期驗證器: {}", this.compiledValidators.size(), this.compiledValidators.keySet());
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, NO_HINTS);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        validate(target, errors, validationHints, resolveMode(validationHints));
+    }
+
+    /**
+     * 取得固定使用指定模式的驗證器，忽略端點宣告的 FailFast 提示
+     *
+     * @param mode 驗證模式
+     * @return 以指定模式驗證的驗證器
+     */
+    public SmartValidator forMode(ValidationMode mode) {
+        return modeOverrides.get(mode);
+    }
+
+    private void validate(Object target, Errors errors, Object[] validationHints, ValidationMode mode) {
+        boolean failFast = mode == ValidationMode.FAIL_FAST;
+        Object[] groups = Arrays.stream(validationHints)
+                .filter(hint -> hint != FailFast.class)
+                .toArray();
+
+        CompiledValidator<Object> compiled = compiledValidatorFor(target);
+        // 編譯期驗證器不支援分組，帶有分組提示時交給 Hibernate Validator
+        if (compiled == null || groups.length > 0) {
+            (failFast ? failFastFallback : fallback).validate(target, errors, groups);
+            return;
+        }
+        compiled.validate(target, new ErrorsSink(errors, failFast));
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, @Nullable Object value,
+                              Errors errors, Object... validationHints) {
+        fallback.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public void destroy() {
+        failFastFallback.destroy();
+    }
+
+    /**
+     * 端點宣告的 FailFast 提示決定模式
+     */
+    private static ValidationMode resolveMode(Object[] validationHints) {
+        for (Object hint : validationHints) {
+            if (hint == FailFast.class) {
+                return ValidationMode.FAIL_FAST;
+            }
+        }
+        return ValidationMode.ALL;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompiledValidator<Object> compiledValidatorFor(@Nullable Object target) {
+        if (target == null) {
+            return null;
+        }
+        return (CompiledValidator<Object>) compiledValidators.get(target.getClass());
+    }
+
+    private static LocalValidatorFactoryBean createFailFastValidator(ApplicationContext applicationContext) {
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.setApplicationContext(applicationContext);
+        validator.setValidationPropertyMap(Map.of("hibernate.validator.fail_fast", "true"));
+        validator.afterPropertiesSet();
+        return validator;
+    }
+
+    /**
+     * 覆寫驗證模式的檢視，與外部類別共用編譯期驗證器與 fallback
+     */
+    private final class ModeOverride implements SmartValidator {
+
+        private final ValidationMode mode;
+
+        private ModeOverride(ValidationMode mode) {
+            this.mode = mode;
+        }
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return true;
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+            CompiledValidatorAdapter.this.validate(target, errors, NO_HINTS, mode);
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+            CompiledValidatorAdapter.this.validate(target, errors, validationHints, mode);
+        }
+
+        @Override
+        public void validateValue(Class<?> targetType, String fieldName, @Nullable Object value,
+                                  Errors errors, Object... validationHints) {
+            fallback.validateValue(targetType, fieldName, value, errors, validationHints);
+        }
+    }
+
+    /**
+     * 與 SpringValidatorAdapter 相同的方式寫入錯誤：
+     * 直接建立 FieldError，避免透過 BeanWrapper 讀取 Record 的欄位值
+     */
+    private static final class ErrorsSink implements ViolationSink {
+
+        private final Errors errors;
+        private final boolean failFast;
+
+        private ErrorsSink(Errors errors, boolean failFast) {
+            this.errors = errors;
+            this.failFast = failFast;
+        }
+
+        @Override
+        public void addViolation(String field, String code, Object invalidValue, String message) {
+            if (errors instanceof BindingResult bindingResult) {
+                String nestedField = bindingResult.getNestedPath() + field;
+                String[] codes = bindingResult.resolveMessageCodes(code, field);
+                bindingResult.addError(new FieldError(
+                        errors.getObjectName(), nestedField, invalidValue, false, codes, null, message));
+            } else {
+                errors.rejectValue(field, code, message);
+            }
+        }
+
+        @Override
+        public boolean shouldStop() {
+            return failFast;
+        }
+    }
+}
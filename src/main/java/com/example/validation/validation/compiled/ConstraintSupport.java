@@ -0,0 +1,103 @@
+package com.example.validation.validation.compiled;
+
+import com.example.validation.validation.rule.CompiledRule;
+import com.example.validation.validation.rule.RuleCompiler;
+import jakarta.validation.ConstraintValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+
+/**
+ * 提供產生的驗證器取得自定義約束驗證器（例如 UniqueEmailValidator）
+ *
+ * 重點：
+ * 1. 驗證器透過 Spring 建立，因此可以注入 Repository 等 Bean
+ * 2. 只在驗證器建構時讀取一次註解並呼叫 initialize，驗證時不再使用反射
+ * 3. 產生的驗證器呼叫 isValid 時傳入 CompiledConstraintContext，
+ *    自定義驗證器可以照常操作 context，但違反訊息固定使用註解上的字面訊息
+ */
+@Component
+@RequiredArgsConstructor
+public class ConstraintSupport {
+
+    private final AutowireCapableBeanFactory beanFactory;
+    private final RuleCompiler ruleCompiler;
+
+    /**
+     * 編譯 @Rule 的運算式；產生的驗證器在建構時呼叫，語法錯誤會讓應用程式無法啟動
+     *
+     * @param declaringType 宣告規則的 DTO 類別
+     * @param expression    規則運算式
+     * @return 已編譯的規則
+     */
+    public <T> CompiledRule<T> rule(Class<T> declaringType, String expression) {
+        return ruleCompiler.compile(declaringType, expression);
+    }
+
+    /**
+     * 建立並初始化自定義約束的驗證器
+     *
+     * @param validatorType  驗證器類別
+     * @param declaringType  宣告約束的 DTO 類別
+     * @param member         宣告約束的欄位或方法名稱
+     * @param annotationType 約束註解類別
+     * @return 已初始化的驗證器
+     */
+    public <V extends ConstraintValidator<?, ?>> V validator(Class<V> validatorType,
+                                                             Class<?> declaringType,
+                                                             String member,
+                                                             Class<? extends Annotation> annotationType) {
+        Annotation annotation = findMember(declaringType, member).getAnnotation(annotationType);
+        if (annotation == null) {
+            throw new IllegalStateException(
+                    "找不到約束註解 @" + annotationType.getSimpleName() + "：" + declaringType.getName() + "." + member);
+        }
+        return initialize(validatorType, annotation);
+    }
+
+    /**
+     * 建立並初始化宣告在類別上的自定義約束驗證器
+     *
+     * @param validatorType  驗證器類別
+     * @param declaringType  宣告約束的 DTO 類別
+     * @param annotationType 約束註解類別
+     * @param index          同一註解在類別上的第幾個宣告（可重複註解依宣告順序）
+     * @return 已初始化的驗證器
+     */
+    public <V extends ConstraintValidator<?, ?>> V typeValidator(Class<V> validatorType,
+                                                                 Class<?> declaringType,
+                                                                 Class<? extends Annotation> annotationType,
+                                                                 int index) {
+        Annotation[] annotations = declaringType.getAnnotationsByType(annotationType);
+        if (index >= annotations.length) {
+            throw new IllegalStateException(
+                    "找不到約束註解 @" + annotationType.getSimpleName() + "：" + declaringType.getName() + "[" + index + "]");
+        }
+        return initialize(validatorType, annotations[index]);
+    }
+
+    private <V extends ConstraintValidator<?, ?>> V initialize(Class<V> validatorType, Annotation annotation) {
+        V validator = beanFactory.createBean(validatorType);
+
+        @SuppressWarnings("unchecked")
+        ConstraintValidator<Annotation, ?> initializable = (ConstraintValidator<Annotation, ?>) validator;
+        initializable.initialize(annotation);
+        return validator;
+    }
+
+    private AnnotatedElement findMember(Class<?> declaringType, String member) {
+        try {
+            return declaringType.getDeclaredField(member);
+        } catch (NoSuchFieldException ignored) {
+            // 不是欄位，改找同名的無參數方法
+        }
+        try {
+            return declaringType.getDeclaredMethod(member);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException("找不到成員：" + declaringType.getName() + "." + member, ex);
+        }
+    }
+}
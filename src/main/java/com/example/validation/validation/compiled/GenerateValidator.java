@@ -0,0 +1,26 @@
+package com.example.validation.validation.compiled;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標註需要在編譯期產生驗證器的 DTO
+ *
+ * validation-processor 會讀取 DTO 上的 jakarta.validation 註解與 @AssertTrue 方法，
+ * 在同一個 package 產生 {DTO 名稱}Validator，執行時不需要 Hibernate Validator 的反射
+ *
+ * 用法範例：
+ * <pre>
+ * &#64;GenerateValidator
+ * public record UserRequest(
+ *     &#64;NotBlank(message = "姓名不可為空")
+ *     String name
+ * ) {}
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateValidator {
+}
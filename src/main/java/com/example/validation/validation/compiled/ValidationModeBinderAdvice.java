@@ -0,0 +1,31 @@
+package com.example.validation.validation.compiled;
+
+import com.example.validation.validation.ValidationMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+/**
+ * 在參數綁定時讀取 X-Validation-Mode 標頭
+ *
+ * 標頭有效時，該次綁定改用固定模式的驗證器；其餘情況沿用 WebMvcConfig 設定的
+ * CompiledValidatorAdapter，由端點的 @Validated(FailFast.class) 決定模式。
+ * 服務層的驗證（ValidationFacade、方法驗證）不會經過這裡，因此不受標頭影響
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class ValidationModeBinderAdvice {
+
+    private final CompiledValidatorAdapter compiledValidatorAdapter;
+
+    @InitBinder
+    public void applyValidationMode(WebDataBinder binder,
+                                    @RequestHeader(value = ValidationMode.HEADER, required = false) String header) {
+        ValidationMode mode = ValidationMode.fromHeader(header);
+        if (mode != null && binder.getTarget() != null) {
+            binder.setValidator(compiledValidatorAdapter.forMode(mode));
+        }
+    }
+}
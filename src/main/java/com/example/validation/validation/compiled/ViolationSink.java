@@ -0,0 +1,27 @@
+package com.example.validation.validation.compiled;
+
+/**
+ * 接收編譯期驗證器回報的約束違反
+ */
+@FunctionalInterface
+public interface ViolationSink {
+
+    /**
+     * 回報一個約束違反
+     *
+     * @param field        欄位名稱
+     * @param code         錯誤代碼（約束註解的簡單名稱，例如 NotBlank）
+     * @param invalidValue 違反約束的值
+     * @param message      錯誤訊息
+     */
+    void addViolation(String field, String code, Object invalidValue, String message);
+
+    /**
+     * 產生的驗證器在每次回報違反後都會詢問，回傳 true 時立即結束驗證
+     *
+     * @return true 表示不需要再檢查後續約束（fail-fast 模式）
+     */
+    default boolean shouldStop() {
+        return false;
+    }
+}
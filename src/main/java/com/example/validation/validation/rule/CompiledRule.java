@@ -0,0 +1,16 @@
+package com.example.validation.validation.rule;
+
+/**
+ * 已編譯的業務規則
+ *
+ * @param <T> 規則所屬的 DTO 類型
+ */
+@FunctionalInterface
+public interface CompiledRule<T> {
+
+    /**
+     * @param target 要檢查的物件（不可為 null）
+     * @return true 表示符合規則
+     */
+    boolean test(T target);
+}
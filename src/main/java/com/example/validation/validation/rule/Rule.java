@@ -0,0 +1,63 @@
+package com.example.validation.validation.rule;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 跨欄位業務規則：以運算式宣告，啟動時由 RuleCompiler 編譯為 Lambda
+ *
+ * 用法範例：
+ * <pre>
+ * &#64;Rule(value = "discountRate == null || (discountRate &gt;= 0 &amp;&amp; discountRate &lt;= 100)",
+ *       field = "discountRate", message = "折扣率必須在 0-100 之間")
+ * public record UserVipRequest(Integer discountRate) {}
+ * </pre>
+ *
+ * 語法見 RuleCompiler；運算元為 null 的比較為 false，允許 null 的屬性要明確寫出 {@code x == null ||}
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(Rule.List.class)
+@Constraint(validatedBy = RuleValidator.class)
+public @interface Rule {
+
+    /**
+     * 規則運算式，結果為 true 表示符合規則
+     */
+    String value();
+
+    /**
+     * 違反規則時回報的欄位名稱（錯誤回應中的 key）
+     */
+    String field();
+
+    /**
+     * 驗證失敗時的錯誤訊息
+     */
+    String message() default "不符合業務規則";
+
+    /**
+     * 驗證組（用於分組驗證）
+     */
+    Class<?>[] groups() default {};
+
+    /**
+     * 附加資訊（用於攜帶元數據）
+     */
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * 同一個類別宣告多個規則時使用
+     */
+    @Target({ElementType.TYPE})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+        Rule[] value();
+    }
+}
@@ -0,0 +1,452 @@
+package com.example.validation.validation.rule;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 將 @Rule 的運算式編譯為 Lambda
+ *
+ * 語法：
+ * <pre>
+ * or      := and ('||' and)*
+ * and     := not ('&amp;&amp;' not)*
+ * not     := '!' not | compare
+ * compare := sum (('==' | '!=' | '&lt;' | '&lt;=' | '&gt;' | '&gt;=') sum)?
+ * sum     := product (('+' | '-') product)*
+ * product := unary ('*' unary)*
+ * unary   := '-' unary | primary
+ * primary := 整數 | true | false | null | 屬性名稱 | '(' or ')'
+ * </pre>
+ *
+ * 重點：
+ * 1. 屬性以 LambdaMetafactory 產生的存取 Lambda 讀取，驗證時不使用反射
+ * 2. 數值以 long、布林值以 boolean 運算；基本型別屬性不需要裝箱
+ * 3. null 在使用的位置處理：含 null 的算術結果為 null，運算元為 null 的比較一律為 false，
+ *    值為 null 的 Boolean 屬性視為 false；允許 null 的屬性要寫成 {@code age == null || age >= 18}
+ * 4. 編譯結果依（類型, 運算式）快取，每個規則只編譯一次
+ */
+@Component
+public class RuleCompiler {
+
+    private static final Set<Class<?>> NUMBER_TYPES = Set.of(
+            int.class, long.class, short.class, byte.class,
+            Integer.class, Long.class, Short.class, Byte.class);
+    private static final Set<Class<?>> BOOLEAN_TYPES = Set.of(boolean.class, Boolean.class);
+
+    private final Map<Class<?>, Map<String, CompiledRule<?>>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 編譯規則；同一類型的相同運算式只編譯一次
+     *
+     * @param type       規則所屬的類型
+     * @param expression 規則運算式，結果必須是布林值
+     * @return 已編譯的規則
+     * @throws RuleSyntaxException 語法錯誤、型別不符或屬性不存在
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompiledRule<T> compile(Class<T> type, String expression) {
+        return (CompiledRule<T>) cache.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(expression, key -> new Parser(type, expression).parseRule());
+    }
+
+    // ---- 運算元（編譯期的型別資訊） ----
+
+    private sealed interface Operand permits Num, Bool, Prop, NullLiteral {
+    }
+
+    /**
+     * 數值運算式
+     *
+     * @param function 計算數值；只在 isNull 不成立時呼叫
+     * @param isNull   結果是否為 null；為 null 表示結果不可能是 null（例如基本型別屬性與常數）
+     */
+    private record Num(ToLongFunction<Object> function, Predicate<Object> isNull) implements Operand {
+    }
+
+    private record Bool(Predicate<Object> function) implements Operand {
+    }
+
+    /**
+     * 屬性引用；依使用方式轉為 Num / Bool，或用於 null 比較
+     */
+    private record Prop(String name, Class<?> type, MethodHandle accessor) implements Operand {
+    }
+
+    private enum NullLiteral implements Operand {
+        INSTANCE
+    }
+
+    /**
+     * 遞迴下降解析器，解析的同時組合 Lambda
+     */
+    private static final class Parser {
+
+        private final Class<?> type;
+        private final String expression;
+        private final MethodHandles.Lookup lookup;
+        private int position;
+
+        Parser(Class<?> type, String expression) {
+            this.type = type;
+            this.expression = expression;
+            try {
+                this.lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                throw new RuleSyntaxException("無法存取類型: " + type.getName(), e);
+            }
+        }
+
+        CompiledRule<Object> parseRule() {
+            Predicate<Object> rule = asBool(parseOr());
+            skipWhitespace();
+            if (position < expression.length()) {
+                throw error("無法解析的內容");
+            }
+            return rule::test;
+        }
+
+        private Operand parseOr() {
+            Operand left = parseAnd();
+            while (accept("||")) {
+                Predicate<Object> l = asBool(left);
+                Predicate<Object> r = asBool(parseAnd());
+                left = new Bool(target -> l.test(target) || r.test(target));
+            }
+            return left;
+        }
+
+        private Operand parseAnd() {
+            Operand left = parseNot();
+            while (accept("&&")) {
+                Predicate<Object> l = asBool(left);
+                Predicate<Object> r = asBool(parseNot());
+                left = new Bool(target -> l.test(target) && r.test(target));
+            }
+            return left;
+        }
+
+        private Operand parseNot() {
+            if (peek("!") && !peek("!=")) {
+                accept("!");
+                Predicate<Object> operand = asBool(parseNot());
+                return new Bool(target -> !operand.test(target));
+            }
+            return parseCompare();
+        }
+
+        private Operand parseCompare() {
+            Operand left = parseSum();
+            for (String operator : new String[] {"==", "!=", "<=", ">=", "<", ">"}) {
+                if (accept(operator)) {
+                    return compare(operator, left, parseSum());
+                }
+            }
+            return left;
+        }
+
+        private Operand compare(String operator, Operand left, Operand right) {
+            boolean equality = operator.equals("==") || operator.equals("!=");
+            if (left instanceof NullLiteral || right instanceof NullLiteral) {
+                if (!equality || !(left instanceof Prop || right instanceof Prop)) {
+                    throw error("null 只能以 == 或 != 與屬性比較");
+                }
+                MethodHandle accessor = ((Prop) (left instanceof Prop ? left : right)).accessor();
+                Function<Object, Object> getter = getter(accessor);
+                boolean isNull = operator.equals("==");
+                return new Bool(target -> (getter.apply(target) == null) == isNull);
+            }
+            if (equality && isBoolean(left) && isBoolean(right)) {
+                Predicate<Object> l = asBool(left);
+                Predicate<Object> r = asBool(right);
+                boolean equal = operator.equals("==");
+                return new Bool(nullSafe(booleanIsNull(left), booleanIsNull(right),
+                        target -> (l.test(target) == r.test(target)) == equal));
+            }
+
+            Num leftNum = asNum(left);
+            Num rightNum = asNum(right);
+            ToLongFunction<Object> l = leftNum.function();
+            ToLongFunction<Object> r = rightNum.function();
+            return new Bool(nullSafe(leftNum.isNull(), rightNum.isNull(), switch (operator) {
+                case "==" -> target -> l.applyAsLong(target) == r.applyAsLong(target);
+                case "!=" -> target -> l.applyAsLong(target) != r.applyAsLong(target);
+                case "<" -> target -> l.applyAsLong(target) < r.applyAsLong(target);
+                case "<=" -> target -> l.applyAsLong(target) <= r.applyAsLong(target);
+                case ">" -> target -> l.applyAsLong(target) > r.applyAsLong(target);
+                default -> target -> l.applyAsLong(target) >= r.applyAsLong(target);
+            }));
+        }
+
+        /**
+         * 任一運算元為 null 時比較結果為 false；兩邊都不可能是 null 時直接使用原本的比較
+         */
+        private static Predicate<Object> nullSafe(Predicate<Object> leftIsNull, Predicate<Object> rightIsNull,
+                                                  Predicate<Object> comparison) {
+            Predicate<Object> isNull = or(leftIsNull, rightIsNull);
+            if (isNull == null) {
+                return comparison;
+            }
+            return target -> !isNull.test(target) && comparison.test(target);
+        }
+
+        /**
+         * 合併兩個 null 檢查；null 表示不需要檢查
+         */
+        private static Predicate<Object> or(Predicate<Object> left, Predicate<Object> right) {
+            if (left == null) {
+                return right;
+            }
+            if (right == null) {
+                return left;
+            }
+            return target -> left.test(target) || right.test(target);
+        }
+
+        private Operand parseSum() {
+            Operand left = parseProduct();
+            while (true) {
+                if (accept("+")) {
+                    Num l = asNum(left);
+                    Num r = asNum(parseProduct());
+                    left = arithmetic(l, r, (a, b) -> a + b);
+                } else if (accept("-")) {
+                    Num l = asNum(left);
+                    Num r = asNum(parseProduct());
+                    left = arithmetic(l, r, (a, b) -> a - b);
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Operand parseProduct() {
+            Operand left = parseUnary();
+            while (accept("*")) {
+                Num l = asNum(left);
+                Num r = asNum(parseUnary());
+                left = arithmetic(l, r, (a, b) -> a * b);
+            }
+            return left;
+        }
+
+        /**
+         * 組合二元算術運算；任一運算元為 null 時結果為 null
+         */
+        private static Num arithmetic(Num left, Num right, LongBinaryOperator operator) {
+            ToLongFunction<Object> l = left.function();
+            ToLongFunction<Object> r = right.function();
+            return new Num(target -> operator.applyAsLong(l.applyAsLong(target), r.applyAsLong(target)),
+                    or(left.isNull(), right.isNull()));
+        }
+
+        private Operand parseUnary() {
+            if (accept("-")) {
+                Num operand = asNum(parseUnary());
+                ToLongFunction<Object> function = operand.function();
+                return new Num(target -> -function.applyAsLong(target), operand.isNull());
+            }
+            return parsePrimary();
+        }
+
+        private Operand parsePrimary() {
+            skipWhitespace();
+            if (accept("(")) {
+                Operand inner = parseOr();
+                if (!accept(")")) {
+                    throw error("缺少 )");
+                }
+                return inner;
+            }
+            if (position >= expression.length()) {
+                throw error("運算式不完整");
+            }
+
+            char c = expression.charAt(position);
+            if (Character.isDigit(c)) {
+                int start = position;
+                while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                    position++;
+                }
+                long value;
+                try {
+                    value = Long.parseLong(expression.substring(start, position));
+                } catch (NumberFormatException e) {
+                    throw error("數值超出範圍");
+                }
+                return new Num(target -> value, null);
+            }
+            if (Character.isJavaIdentifierStart(c)) {
+                int start = position;
+                while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+                    position++;
+                }
+                String name = expression.substring(start, position);
+                return switch (name) {
+                    case "true" -> new Bool(target -> true);
+                    case "false" -> new Bool(target -> false);
+                    case "null" -> NullLiteral.INSTANCE;
+                    default -> property(name, start);
+                };
+            }
+            throw error("無法解析的字元 '" + c + "'");
+        }
+
+        // ---- 屬性存取 ----
+
+        private Prop property(String name, int start) {
+            Method method = accessorOf(name);
+            if (method == null) {
+                position = start;
+                throw error(type.getSimpleName() + " 沒有屬性 " + name);
+            }
+            try {
+                return new Prop(name, method.getReturnType(), lookup.unreflect(method));
+            } catch (IllegalAccessException e) {
+                throw new RuleSyntaxException("無法存取屬性 " + name + ": " + type.getName(), e);
+            }
+        }
+
+        /**
+         * Record 使用元件存取方法，一般類別使用 getXxx / isXxx
+         */
+        private Method accessorOf(String name) {
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (component.getName().equals(name)) {
+                        return component.getAccessor();
+                    }
+                }
+                return null;
+            }
+            String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (String candidate : new String[] {"get" + capitalized, "is" + capitalized}) {
+                try {
+                    Method method = type.getMethod(candidate);
+                    if (method.getReturnType() != void.class) {
+                        return method;
+                    }
+                } catch (NoSuchMethodException ignored) {
+                    // 嘗試下一種命名
+                }
+            }
+            return null;
+        }
+
+        private Num asNum(Operand operand) {
+            if (operand instanceof Num num) {
+                return num;
+            }
+            if (operand instanceof Prop prop && NUMBER_TYPES.contains(prop.type())) {
+                if (prop.type().isPrimitive()) {
+                    return new Num(lambda(ToLongFunction.class, "applyAsLong", long.class, prop.accessor()), null);
+                }
+                Function<Object, Object> getter = getter(prop.accessor());
+                return new Num(target -> ((Number) getter.apply(target)).longValue(),
+                        target -> getter.apply(target) == null);
+            }
+            throw error(describe(operand) + " 不是數值");
+        }
+
+        private Predicate<Object> asBool(Operand operand) {
+            if (operand instanceof Bool bool) {
+                return bool.function();
+            }
+            if (operand instanceof Prop prop && BOOLEAN_TYPES.contains(prop.type())) {
+                if (prop.type().isPrimitive()) {
+                    return lambda(Predicate.class, "test", boolean.class, prop.accessor());
+                }
+                Function<Object, Object> getter = getter(prop.accessor());
+                return target -> Boolean.TRUE.equals(getter.apply(target));
+            }
+            throw error(describe(operand) + " 不是布林值");
+        }
+
+        /**
+         * 值可能為 null 的布林運算元（Boolean 屬性）的 null 檢查；其他運算元回傳 null
+         */
+        private Predicate<Object> booleanIsNull(Operand operand) {
+            if (operand instanceof Prop prop && !prop.type().isPrimitive()) {
+                Function<Object, Object> getter = getter(prop.accessor());
+                return target -> getter.apply(target) == null;
+            }
+            return null;
+        }
+
+        private boolean isBoolean(Operand operand) {
+            return operand instanceof Bool
+                    || operand instanceof Prop prop && BOOLEAN_TYPES.contains(prop.type());
+        }
+
+        @SuppressWarnings("unchecked")
+        private Function<Object, Object> getter(MethodHandle accessor) {
+            return lambda(Function.class, "apply", Object.class, accessor);
+        }
+
+        /**
+         * 以 LambdaMetafactory 將存取方法轉為函式介面實作，效能與手寫 Lambda 相同
+         */
+        @SuppressWarnings("unchecked")
+        private <F> F lambda(Class<?> functionType, String methodName, Class<?> returnType, MethodHandle accessor) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(lookup, methodName,
+                        MethodType.methodType(functionType),
+                        MethodType.methodType(returnType, Object.class),
+                        accessor,
+                        MethodType.methodType(returnType == Object.class ? accessor.type().wrap().returnType() : returnType,
+                                type));
+                return (F) site.getTarget().invoke();
+            } catch (Throwable e) {
+                throw new RuleSyntaxException("無法建立屬性存取函式: " + accessor, e);
+            }
+        }
+
+        private String describe(Operand operand) {
+            if (operand instanceof Prop prop) {
+                return "屬性 " + prop.name();
+            }
+            if (operand instanceof Num) {
+                return "數值運算式";
+            }
+            return operand instanceof Bool ? "布林運算式" : "null";
+        }
+
+        // ---- 詞法 ----
+
+        private boolean peek(String token) {
+            skipWhitespace();
+            return expression.startsWith(token, position);
+        }
+
+        private boolean accept(String token) {
+            if (peek(token)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        private RuleSyntaxException error(String message) {
+            return new RuleSyntaxException(expression, position, message);
+        }
+    }
+}
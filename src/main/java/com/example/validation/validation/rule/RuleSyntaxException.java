@@ -0,0 +1,17 @@
+package com.example.validation.validation.rule;
+
+/**
+ * 規則運算式語法錯誤或引用了不存在的屬性
+ *
+ * 規則在啟動時編譯，因此此例外會讓應用程式無法啟動，而不是在驗證時才發現
+ */
+public class RuleSyntaxException extends IllegalArgumentException {
+
+    public RuleSyntaxException(String expression, int position, String message) {
+        super(message + "（位置 " + position + "）: " + expression);
+    }
+
+    public RuleSyntaxException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.validation.validation.rule;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rule 驗證器實作（Hibernate Validator 路徑）
+ *
+ * 第一次驗證某個類型時編譯規則，之後直接取得 RuleCompiler 快取的結果；
+ * 編譯期驗證器則在建立時就透過 ConstraintSupport 編譯
+ */
+@Component
+public class RuleValidator implements ConstraintValidator<Rule, Object> {
+
+    private RuleCompiler ruleCompiler;
+    private Rule rule;
+
+    @Autowired
+    public void setRuleCompiler(RuleCompiler ruleCompiler) {
+        this.ruleCompiler = ruleCompiler;
+    }
+
+    @Override
+    public void initialize(Rule constraintAnnotation) {
+        this.rule = constraintAnnotation;
+    }
+
+    /**
+     * 執行規則，違反時將錯誤回報在 field 指定的欄位
+     *
+     * @param target 要驗證的物件
+     * @param context 驗證上下文
+     * @return true 表示符合規則
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean isValid(Object target, ConstraintValidatorContext context) {
+        if (target == null) {
+            return true;
+        }
+        CompiledRule<Object> compiled =
+                ruleCompiler.compile((Class<Object>) target.getClass(), rule.value());
+        if (compiled.test(target)) {
+            return true;
+        }
+
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(rule.message())
+                .addPropertyNode(rule.field())
+                .addConstraintViolation();
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.validation.vip;
+
+/**
+ * 單一 VIP 等級的規則（規則檔中的一筆資料）
+ *
+ * @param level       等級，從 0 開始
+ * @param name        等級名稱
+ * @param minDiscount 折扣率下限（百分比，含）
+ * @param maxDiscount 折扣率上限（百分比，含）
+ * @param minAge      最低年齡
+ */
+public record VipTier(
+    int level,
+    String name,
+    int minDiscount,
+    int maxDiscount,
+    int minAge
+) {
+}
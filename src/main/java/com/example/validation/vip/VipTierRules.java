@@ -0,0 +1,119 @@
+package com.example.validation.vip;
+
+import com.example.validation.config.VipProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 目前生效的 VIP 等級規則
+ *
+ * 重點：
+ * 1. 啟動時載入外部規則檔（app.vip.tiers-file），不存在時使用 classpath 的 vip-tiers.json
+ * 2. 背景定期檢查外部規則檔的修改時間，修改後重新載入，不需要重新啟動
+ * 3. 規則表不可變，以 volatile 參考整份替換；驗證中的請求不會看到一半新、一半舊的規則
+ * 4. 新規則格式錯誤或不合理時保留原本的規則表，只記錄錯誤
+ */
+@Component
+@Slf4j
+public class VipTierRules implements DisposableBean {
+
+    private static final String DEFAULT_RESOURCE = "vip-tiers.json";
+    private static final TypeReference<List<VipTier>> TIERS = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final VipProperties properties;
+
+    private final ScheduledExecutorService reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vip-tier-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile VipTierTable table;
+
+    /**
+     * 最後一次嘗試載入的外部規則檔修改時間
+     */
+    private FileTime loadedModifiedTime;
+
+    public VipTierRules(ObjectMapper objectMapper, VipProperties properties) throws IOException {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        if (!reloadIfModified()) {
+            try (InputStream input = new ClassPathResource(DEFAULT_RESOURCE).getInputStream()) {
+                this.table = VipTierTable.of(objectMapper.readValue(input, TIERS));
+            }
+            log.info("已載入預設 VIP 等級規則（classpath:{}）", DEFAULT_RESOURCE);
+        }
+
+        Duration interval = properties.getReloadInterval();
+        if (interval != null && !interval.isZero()) {
+            reloadExecutor.scheduleWithFixedDelay(this::reloadQuietly,
+                    interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 目前生效的規則表
+     */
+    public VipTierTable current() {
+        return table;
+    }
+
+    /**
+     * 外部規則檔修改時重新載入
+     *
+     * @return 是否載入了新的規則
+     */
+    public synchronized boolean reloadIfModified() {
+        Path file = properties.getTiersFile();
+        if (file == null || !Files.isRegularFile(file)) {
+            return false;
+        }
+        try {
+            FileTime modified = Files.getLastModifiedTime(file);
+            if (modified.equals(loadedModifiedTime)) {
+                return false;
+            }
+            // 先記錄修改時間：格式錯誤的檔案只回報一次，再次修改後才重新嘗試
+            loadedModifiedTime = modified;
+            VipTierTable next = VipTierTable.of(objectMapper.readValue(file.toFile(), TIERS));
+            table = next;
+            log.info("已載入 VIP 等級規則: {}（{} 個等級）", file, next.size());
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("VIP 等級規則載入失敗，沿用原本的規則: {}", file, e);
+            return false;
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reloadIfModified();
+        } catch (RuntimeException e) {
+            log.error("VIP 等級規則檢查失敗", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        reloadExecutor.shutdownNow();
+    }
+}
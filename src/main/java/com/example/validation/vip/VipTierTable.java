@@ -0,0 +1,101 @@
+package com.example.validation.vip;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 不可變的 VIP 等級規則表
+ *
+ * 以等級為索引存放在單一 int 陣列（每個等級 3 個欄位：折扣下限、折扣上限、最低年齡），
+ * 查詢只需一次陣列存取，不需要 switch 或 Map
+ */
+public final class VipTierTable {
+
+    private static final int STRIDE = 3;
+    private static final int MIN_DISCOUNT = 0;
+    private static final int MAX_DISCOUNT = 1;
+    private static final int MIN_AGE = 2;
+
+    /**
+     * 未定義的等級以 -1 標記（折扣率不可能是負數）
+     */
+    private static final int UNDEFINED = -1;
+
+    private final int[] rules;
+    private final int size;
+
+    private VipTierTable(int[] rules) {
+        this.rules = rules;
+        this.size = rules.length / STRIDE;
+    }
+
+    /**
+     * 建立規則表；規則不合理時拋出 IllegalArgumentException，呼叫端應保留原本的規則表
+     *
+     * @param tiers 所有等級的規則
+     * @return 規則表
+     */
+    public static VipTierTable of(List<VipTier> tiers) {
+        if (tiers == null || tiers.isEmpty()) {
+            throw new IllegalArgumentException("至少需要一個 VIP 等級");
+        }
+        int maxLevel = tiers.stream().mapToInt(VipTier::level).max().getAsInt();
+        if (maxLevel > 255) {
+            throw new IllegalArgumentException("VIP 等級不可大於 255: " + maxLevel);
+        }
+
+        int[] rules = new int[(maxLevel + 1) * STRIDE];
+        Arrays.fill(rules, UNDEFINED);
+        for (VipTier tier : tiers) {
+            if (tier.level() < 0) {
+                throw new IllegalArgumentException("VIP 等級不可為負數: " + tier.level());
+            }
+            if (tier.minDiscount() < 0 || tier.maxDiscount() > 100 || tier.minDiscount() > tier.maxDiscount()) {
+                throw new IllegalArgumentException("VIP 等級 " + tier.level() + " 的折扣率範圍不合理");
+            }
+            if (tier.minAge() < 0) {
+                throw new IllegalArgumentException("VIP 等級 " + tier.level() + " 的最低年齡不可為負數");
+            }
+            int offset = tier.level() * STRIDE;
+            if (rules[offset + MIN_DISCOUNT] != UNDEFINED) {
+                throw new IllegalArgumentException("VIP 等級重複: " + tier.level());
+            }
+            rules[offset + MIN_DISCOUNT] = tier.minDiscount();
+            rules[offset + MAX_DISCOUNT] = tier.maxDiscount();
+            rules[offset + MIN_AGE] = tier.minAge();
+        }
+        return new VipTierTable(rules);
+    }
+
+    /**
+     * 等級是否存在
+     */
+    public boolean isDefined(int level) {
+        return level >= 0 && level < size && rules[level * STRIDE + MIN_DISCOUNT] != UNDEFINED;
+    }
+
+    /**
+     * 折扣率是否符合等級的範圍；等級不存在時回傳 false
+     */
+    public boolean allowsDiscount(int level, int discountRate) {
+        if (!isDefined(level)) {
+            return false;
+        }
+        int offset = level * STRIDE;
+        return discountRate >= rules[offset + MIN_DISCOUNT] && discountRate <= rules[offset + MAX_DISCOUNT];
+    }
+
+    /**
+     * 年齡是否達到等級的最低年齡；等級不存在時回傳 true（由折扣率檢查回報）
+     */
+    public boolean allowsAge(int level, int age) {
+        return !isDefined(level) || age >= rules[level * STRIDE + MIN_AGE];
+    }
+
+    /**
+     * 規則表涵蓋的等級數量（含未定義的空位）
+     */
+    public int size() {
+        return size;
+    }
+}
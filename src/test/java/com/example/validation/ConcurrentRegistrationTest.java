@@ -0,0 +1,73 @@
+package com.example.validation;
+
+import com.example.validation.model.dto.request.UserRegistrationRequest;
+import com.example.validation.model.dto.response.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 並發註冊同一個 Email 的壓力測試
+ *
+ * 所有執行緒同時送出註冊請求，必須剛好一筆成功（201），
+ * 其餘回傳 email 欄位的 400，不可出現 500
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ConcurrentRegistrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void onlyOneConcurrentRegistrationWithSameEmailSucceeds() throws Exception {
+        UserRegistrationRequest request = new UserRegistrationRequest(
+                "並發測試", "concurrent@example.com", 30, "securePassword123");
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<ResponseEntity<ErrorResponse>>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return restTemplate.postForEntity("/api/users/register", request, ErrorResponse.class);
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            int duplicates = 0;
+            for (Future<ResponseEntity<ErrorResponse>> future : responses) {
+                ResponseEntity<ErrorResponse> response = future.get(30, TimeUnit.SECONDS);
+                if (response.getStatusCode() == HttpStatus.CREATED) {
+                    created++;
+                    continue;
+                }
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+                assertThat(response.getBody()).isNotNull();
+                assertThat(response.getBody().errors()).containsKey("email");
+                duplicates++;
+            }
+
+            assertThat(created).isEqualTo(1);
+            assertThat(duplicates).isEqualTo(THREADS - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
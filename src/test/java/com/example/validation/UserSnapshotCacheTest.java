@@ -0,0 +1,180 @@
+package com.example.validation;
+
+import com.example.validation.config.CacheConfig;
+import com.example.validation.event.UserUpdatedEvent;
+import com.example.validation.model.dto.request.UserRegistrationRequest;
+import com.example.validation.model.dto.response.UserResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GET /api/users/{id} 的快取與載入合併測試
+ *
+ * 以 Hibernate 的 StatementInspector 計算 findSnapshotsByIdIn 實際送出的 SQL 次數：
+ * 1. 第二次查詢同一位使用者命中 userSnapshots，不再查詢資料庫
+ * 2. 快取未命中時的並發請求只送出一次查詢
+ * 3. UserUpdatedEvent 清除快取，下一次查詢重新載入
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.validation.UserSnapshotCacheTest$SnapshotQueryCounter")
+class UserSnapshotCacheTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private CaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = (CaffeineCache) cacheManager.getCache(CacheConfig.USER_SNAPSHOT_CACHE);
+        assertThat(cache).isNotNull();
+        cache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SnapshotQueryCounter.delayMillis = 0;
+    }
+
+    @Test
+    void secondGetIsServedFromUserSnapshots() {
+        Long userId = register("snapshot-hit@example.com");
+        SnapshotQueryCounter.reset();
+        long hits = cache.getNativeCache().stats().hitCount();
+
+        assertThat(getUser(userId).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(getUser(userId).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(SnapshotQueryCounter.count()).isEqualTo(1);
+        assertThat(cache.getNativeCache().stats().hitCount()).isEqualTo(hits + 1);
+        assertThat(cache.getNativeCache().getIfPresent(userId)).isNotNull();
+    }
+
+    @Test
+    void concurrentMissesCollapseIntoOneSnapshotQuery() throws Exception {
+        Long userId = register("snapshot-concurrent@example.com");
+        SnapshotQueryCounter.reset();
+        // 讓查詢停留一段時間，所有請求都在載入期間抵達
+        SnapshotQueryCounter.delayMillis = 500;
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<ResponseEntity<UserResponse>>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return getUser(userId);
+                }));
+            }
+            start.countDown();
+
+            for (Future<ResponseEntity<UserResponse>> future : responses) {
+                ResponseEntity<UserResponse> response = future.get(30, TimeUnit.SECONDS);
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                assertThat(response.getBody()).isNotNull();
+                assertThat(response.getBody().id()).isEqualTo(userId);
+            }
+
+            assertThat(SnapshotQueryCounter.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void userUpdatedEventEvictsCachedSnapshot() {
+        Long userId = register("snapshot-evict@example.com");
+        getUser(userId);
+        assertThat(cache.getNativeCache().getIfPresent(userId)).isNotNull();
+
+        // 不在交易中發布時立即處理（fallbackExecution）
+        eventPublisher.publishEvent(new UserUpdatedEvent(userId));
+
+        assertThat(cache.getNativeCache().getIfPresent(userId)).isNull();
+        SnapshotQueryCounter.reset();
+        assertThat(getUser(userId).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(SnapshotQueryCounter.count()).isEqualTo(1);
+    }
+
+    private Long register(String email) {
+        UserRegistrationRequest request = new UserRegistrationRequest(
+                "快取測試", email, 30, "securePassword123");
+        ResponseEntity<UserResponse> response =
+                restTemplate.postForEntity("/api/users/register", request, UserResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isNotNull();
+        return response.getBody().id();
+    }
+
+    private ResponseEntity<UserResponse> getUser(Long userId) {
+        return restTemplate.getForEntity("/api/users/{id}", UserResponse.class, userId);
+    }
+
+    /**
+     * 計算 UserRepository.findSnapshotsByIdIn 送出的 SQL（select ... from users ... in (...)），
+     * 需要時在送出前暫停，模擬較慢的查詢
+     */
+    public static class SnapshotQueryCounter implements StatementInspector {
+
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        static volatile long delayMillis;
+
+        static void reset() {
+            COUNT.set(0);
+        }
+
+        static int count() {
+            return COUNT.get();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            String normalized = sql.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            if (normalized.startsWith("select") && normalized.contains(" from users ")
+                    && normalized.contains("created_at") && normalized.contains(" in (")) {
+                COUNT.incrementAndGet();
+                if (delayMillis > 0) {
+                    try {
+                        Thread.sleep(delayMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.validation.processor;
+
+/**
+ * 單一約束的產生資訊
+ *
+ * condition 是「驗證失敗」時成立的 Java 運算式，
+ * 其中 {value} 代表屬性值，{member} 代表此約束在產生類別中的成員名稱
+ *
+ * @param kind           約束種類
+ * @param code           錯誤代碼（註解的簡單名稱）
+ * @param message        驗證失敗訊息
+ * @param condition      驗證失敗條件
+ * @param validatorType  自定義驗證器的完整類別名稱（僅 CUSTOM）
+ * @param annotationType 自定義註解的完整類別名稱（僅 CUSTOM）
+ * @param argument       額外參數，例如 @Pattern 的正規表達式字面值（僅 PATTERN）
+ * @param cost           執行成本（ConstraintCost 的序數，0 表示 CHEAP）
+ */
+record ConstraintModel(Kind kind, String code, String message, String condition,
+                       String validatorType, String annotationType, String argument, int cost) {
+
+    enum Kind {
+        BUILTIN,
+        PATTERN,
+        CUSTOM
+    }
+
+    static ConstraintModel builtin(String code, String message, String condition) {
+        return new ConstraintModel(Kind.BUILTIN, code, message, condition, null, null, null, 0);
+    }
+
+    static ConstraintModel pattern(String code, String message, String regexpLiteral) {
+        return new ConstraintModel(Kind.PATTERN, code, message,
+                "!BuiltinConstraints.matches({value}, {member})", null, null, regexpLiteral, 0);
+    }
+
+    static ConstraintModel custom(String code, String message, String validatorType, String annotationType,
+                                  int cost) {
+        return new ConstraintModel(Kind.CUSTOM, code, message,
+                "!this.{member}.isValid({value}, CompiledConstraintContext.INSTANCE)", validatorType, annotationType, null, cost);
+    }
+}
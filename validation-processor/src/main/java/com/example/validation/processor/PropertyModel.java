@@ -0,0 +1,15 @@
+package com.example.validation.processor;
+
+import java.util.List;
+
+/**
+ * 需要驗證的單一屬性
+ *
+ * @param name        屬性名稱（即錯誤回應中的欄位名稱）
+ * @param member      宣告約束的欄位或方法名稱
+ * @param accessor    取值運算式，例如 name() 或 getName()
+ * @param primitive   是否為基本型別（基本型別不會是 null）
+ * @param constraints 依宣告順序排列的約束
+ */
+record PropertyModel(String name, String member, String accessor, boolean primitive, List<ConstraintModel> constraints) {
+}
@@ -0,0 +1,13 @@
+package com.example.validation.processor;
+
+/**
+ * 類別上宣告的 @Rule 業務規則
+ *
+ * 運算式不在編譯期解析，由產生的驗證器在建構時透過 ConstraintSupport 編譯
+ *
+ * @param expression 規則運算式
+ * @param field      違反規則時回報的欄位名稱
+ * @param message    驗證失敗訊息
+ */
+record RuleModel(String expression, String field, String message) {
+}
@@ -0,0 +1,17 @@
+package com.example.validation.processor;
+
+/**
+ * 類別上宣告的自定義約束（例如 @VipTierRule）
+ *
+ * 驗證器以整個物件為輸入，違反時回報在註解 field 屬性指定的欄位
+ *
+ * @param code           錯誤代碼（註解的簡單名稱）
+ * @param field          違反約束時回報的欄位名稱
+ * @param message        驗證失敗訊息
+ * @param validatorType  驗證器的完整類別名稱
+ * @param annotationType 註解的完整類別名稱
+ * @param index          同一註解在類別上的第幾個宣告
+ */
+record TypeConstraintModel(String code, String field, String message,
+                           String validatorType, String annotationType, int index) {
+}
@@ -0,0 +1,22 @@
+package com.example.validation.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * 遇到編譯期驗證器無法產生的約束時拋出，由處理器轉為編譯錯誤
+ */
+class UnsupportedConstraintException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Element element;
+
+    UnsupportedConstraintException(String message, Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    Element getElement() {
+        return element;
+    }
+}
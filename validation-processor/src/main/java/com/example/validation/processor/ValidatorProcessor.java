@@ -0,0 +1,409 @@
+package com.example.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 編譯期驗證器產生器
+ *
+ * 讀取標註 @GenerateValidator 的 DTO 上的 jakarta.validation 註解與 @AssertTrue 方法，
+ * 產生一個不使用反射的 CompiledValidator 實作（與 DTO 位於同一個 package）
+ *
+ * 重點：
+ * 1. 只支援專案實際用到的內建約束，遇到不支援的註解會直接讓編譯失敗
+ * 2. 自定義約束（@Constraint）會透過 ConstraintSupport 取得驗證器實例
+ * 3. 訊息必須是字面字串，不支援 {key} 形式的訊息插值
+ * 4. 自定義約束可透過 cost 屬性（ConstraintCost）宣告成本，高成本約束會排到最後執行
+ * 5. 類別上的 @Rule 業務規則由產生的驗證器在建構時編譯，於低成本約束之後執行
+ * 6. 類別上的自定義約束（例如 @VipTierRule）與 @Rule 一同執行，必須以 field 屬性指定回報欄位
+ */
+@SupportedAnnotationTypes(ValidatorProcessor.GENERATE_VALIDATOR)
+public class ValidatorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_VALIDATOR = "com.example.validation.validation.compiled.GenerateValidator";
+
+    private static final String CONSTRAINTS_PACKAGE = "jakarta.validation.constraints.";
+    private static final String CONSTRAINT = "jakarta.validation.Constraint";
+    private static final String VALID = "jakarta.validation.Valid";
+    private static final String CONSTRAINT_COST = "com.example.validation.validation.ConstraintCost";
+    private static final String RULE = "com.example.validation.validation.rule.Rule";
+    private static final String RULE_LIST = RULE + ".List";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (!(element instanceof TypeElement type)) {
+                    error("@GenerateValidator 只能標註在類別或 Record 上", element);
+                    continue;
+                }
+                try {
+                    List<PropertyModel> properties = collectProperties(type);
+                    List<RuleModel> rules = collectRules(type);
+                    List<TypeConstraintModel> typeConstraints = collectTypeConstraints(type);
+                    new ValidatorWriter(processingEnv).write(type, properties, rules, typeConstraints);
+                } catch (UnsupportedConstraintException ex) {
+                    error(ex.getMessage(), ex.getElement());
+                } catch (IOException ex) {
+                    error("無法產生驗證器: " + ex.getMessage(), type);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 依宣告順序收集需要驗證的屬性（欄位 / Record 元件，以及 getter 形式的驗證方法）
+     */
+    private List<PropertyModel> collectProperties(TypeElement type) {
+        List<PropertyModel> properties = new ArrayList<>();
+
+        if (type.getKind() == ElementKind.RECORD) {
+            List<VariableElement> fields = ElementFilter.fieldsIn(type.getEnclosedElements());
+            for (RecordComponentElement component : type.getRecordComponents()) {
+                String name = component.getSimpleName().toString();
+                // Record 元件上的 FIELD 註解會傳遞到對應的 private 欄位
+                VariableElement field = fields.stream()
+                        .filter(f -> f.getSimpleName().contentEquals(name))
+                        .findFirst()
+                        .orElseThrow();
+                addProperty(properties, field, name,
+                        component.getAccessor().getSimpleName() + "()", field.asType());
+            }
+        } else {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String name = field.getSimpleName().toString();
+                addProperty(properties, field, name, getterName(field) + "()", field.asType());
+            }
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.STATIC) || !method.getParameters().isEmpty()) {
+                continue;
+            }
+            String propertyName = propertyNameOf(method);
+            if (propertyName == null) {
+                continue;
+            }
+            addProperty(properties, method, propertyName,
+                    method.getSimpleName() + "()", method.getReturnType());
+        }
+
+        return properties;
+    }
+
+    /**
+     * 收集類別上的 @Rule（單一或以 @Rule.List 包裝的多個）
+     */
+    private List<RuleModel> collectRules(TypeElement type) {
+        List<RuleModel> rules = new ArrayList<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            String qualifiedName = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (RULE.equals(qualifiedName)) {
+                rules.add(toRule(type, mirror));
+            } else if (RULE_LIST.equals(qualifiedName)) {
+                for (Object rule : (List<?>) value(mirror.getElementValues(), "value")) {
+                    rules.add(toRule(type, (AnnotationMirror) ((AnnotationValue) rule).getValue()));
+                }
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * 收集類別上 @Rule 以外的自定義約束（單一或以 List 容器包裝的多個），依宣告順序編號
+     */
+    private List<TypeConstraintModel> collectTypeConstraints(TypeElement type) {
+        List<AnnotationMirror> mirrors = new ArrayList<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            String qualifiedName = annotationType.getQualifiedName().toString();
+            if (RULE.equals(qualifiedName) || RULE_LIST.equals(qualifiedName)) {
+                continue;
+            }
+            if (findAnnotation(annotationType, CONSTRAINT) != null) {
+                mirrors.add(mirror);
+            } else {
+                mirrors.addAll(containedConstraints(mirror));
+            }
+        }
+
+        List<TypeConstraintModel> constraints = new ArrayList<>();
+        Map<String, Integer> indexes = new HashMap<>();
+        for (AnnotationMirror mirror : mirrors) {
+            String qualifiedName = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            int index = indexes.merge(qualifiedName, 1, Integer::sum) - 1;
+            constraints.add(toTypeConstraint(type, mirror, index));
+        }
+        return constraints;
+    }
+
+    /**
+     * 可重複約束的 List 容器：value 屬性為約束註解陣列；其他註解回傳空清單
+     */
+    private List<AnnotationMirror> containedConstraints(AnnotationMirror container) {
+        List<AnnotationMirror> contained = new ArrayList<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : container.getElementValues().entrySet()) {
+            if (!entry.getKey().getSimpleName().contentEquals("value")
+                    || !(entry.getValue().getValue() instanceof List<?> values)) {
+                continue;
+            }
+            for (Object value : values) {
+                if (((AnnotationValue) value).getValue() instanceof AnnotationMirror mirror
+                        && findAnnotation(mirror.getAnnotationType().asElement(), CONSTRAINT) != null) {
+                    contained.add(mirror);
+                }
+            }
+        }
+        return contained;
+    }
+
+    private TypeConstraintModel toTypeConstraint(TypeElement type, AnnotationMirror mirror, int index) {
+        TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+        String code = annotationType.getSimpleName().toString();
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        requireDefaultGroup(values, type, code);
+
+        boolean hasField = values.keySet().stream()
+                .anyMatch(element -> element.getSimpleName().contentEquals("field"));
+        if (!hasField) {
+            throw new UnsupportedConstraintException(
+                    "類別上的自定義約束 @" + code + " 必須以 field 屬性指定回報欄位", type);
+        }
+        List<?> validators = (List<?>) value(
+                findAnnotation(annotationType, CONSTRAINT).getElementValues(), "validatedBy");
+        if (validators.size() != 1) {
+            throw new UnsupportedConstraintException(
+                    "自定義約束 @" + code + " 必須剛好指定一個驗證器", type);
+        }
+        TypeMirror validatorType = (TypeMirror) ((AnnotationValue) validators.get(0)).getValue();
+        return new TypeConstraintModel(code, (String) value(values, "field"), literalMessage(values, type),
+                validatorType.toString(), annotationType.getQualifiedName().toString(), index);
+    }
+
+    private RuleModel toRule(TypeElement type, AnnotationMirror mirror) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        requireDefaultGroup(values, type, "Rule");
+        return new RuleModel((String) value(values, "value"), (String) value(values, "field"),
+                literalMessage(values, type));
+    }
+
+    private void addProperty(List<PropertyModel> properties, Element element,
+                             String name, String accessor, TypeMirror type) {
+        List<ConstraintModel> constraints = new ArrayList<>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            ConstraintModel constraint = toConstraint(element, type, mirror);
+            if (constraint != null) {
+                constraints.add(constraint);
+            }
+        }
+        if (!constraints.isEmpty()) {
+            properties.add(new PropertyModel(name, element.getSimpleName().toString(), accessor,
+                    type.getKind().isPrimitive(), constraints));
+        }
+    }
+
+    /**
+     * 將單一註解轉換為約束模型；非約束註解回傳 null
+     */
+    private ConstraintModel toConstraint(Element element, TypeMirror type, AnnotationMirror mirror) {
+        TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+        String qualifiedName = annotationType.getQualifiedName().toString();
+
+        if (VALID.equals(qualifiedName)) {
+            throw new UnsupportedConstraintException("編譯期驗證器不支援 @Valid 串接驗證", element);
+        }
+
+        boolean builtin = qualifiedName.startsWith(CONSTRAINTS_PACKAGE);
+        AnnotationMirror constraintMeta = findAnnotation(annotationType, CONSTRAINT);
+        if (!builtin && constraintMeta == null) {
+            return null;
+        }
+
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        String code = annotationType.getSimpleName().toString();
+        String message = literalMessage(values, element);
+        requireDefaultGroup(values, element, code);
+
+        if (!builtin) {
+            List<?> validators = (List<?>) value(constraintMeta.getElementValues(), "validatedBy");
+            if (validators.size() != 1) {
+                throw new UnsupportedConstraintException(
+                        "自定義約束 @" + code + " 必須剛好指定一個驗證器", element);
+            }
+            TypeMirror validatorType = (TypeMirror) ((AnnotationValue) validators.get(0)).getValue();
+            return ConstraintModel.custom(code, message, validatorType.toString(), qualifiedName, costOf(values));
+        }
+
+        boolean primitive = type.getKind().isPrimitive();
+        return switch (code) {
+            case "NotNull" -> primitive ? null : ConstraintModel.builtin(code, message, "{value} == null");
+            case "NotBlank" -> ConstraintModel.builtin(code, message,
+                    "!BuiltinConstraints.notBlank({value})");
+            case "NotEmpty" -> ConstraintModel.builtin(code, message,
+                    "!BuiltinConstraints.notEmpty({value})");
+            case "Size" -> ConstraintModel.builtin(code, message,
+                    "!BuiltinConstraints.size({value}, " + value(values, "min") + ", " + value(values, "max") + ")");
+            case "Min" -> ConstraintModel.builtin(code, message,
+                    "!BuiltinConstraints.min({value}, " + value(values, "value") + "L)");
+            case "Max" -> ConstraintModel.builtin(code, message,
+                    "!BuiltinConstraints.max({value}, " + value(values, "value") + "L)");
+            case "Email" -> {
+                requireNoPatternOverride(values, element, code, ".*");
+                yield ConstraintModel.builtin(code, message, "!BuiltinConstraints.email({value})");
+            }
+            case "Pattern" -> {
+                requireNoPatternOverride(values, element, code, null);
+                yield ConstraintModel.pattern(code, message, ValidatorWriter.constant((String) value(values, "regexp")));
+            }
+            case "AssertTrue" -> ConstraintModel.builtin(code, message,
+                    primitive ? "!{value}" : "Boolean.FALSE.equals({value})");
+            case "AssertFalse" -> ConstraintModel.builtin(code, message,
+                    primitive ? "{value}" : "Boolean.TRUE.equals({value})");
+            default -> throw new UnsupportedConstraintException(
+                    "編譯期驗證器尚未支援 @" + code, element);
+        };
+    }
+
+    private String literalMessage(Map<? extends ExecutableElement, ? extends AnnotationValue> values,
+                                  Element element) {
+        String message = (String) value(values, "message");
+        if (message.indexOf('{') >= 0) {
+            throw new UnsupportedConstraintException(
+                    "編譯期驗證器需要字面訊息，不支援訊息插值: " + message, element);
+        }
+        return message;
+    }
+
+    private void requireDefaultGroup(Map<? extends ExecutableElement, ? extends AnnotationValue> values,
+                                     Element element, String code) {
+        if (!((List<?>) value(values, "groups")).isEmpty()) {
+            throw new UnsupportedConstraintException(
+                    "編譯期驗證器不支援分組驗證: @" + code, element);
+        }
+    }
+
+    private void requireNoPatternOverride(Map<? extends ExecutableElement, ? extends AnnotationValue> values,
+                                          Element element, String code, String defaultRegexp) {
+        if (defaultRegexp != null && !defaultRegexp.equals(value(values, "regexp"))) {
+            throw new UnsupportedConstraintException("編譯期驗證器不支援 @" + code + " 的 regexp 屬性", element);
+        }
+        if (!((List<?>) value(values, "flags")).isEmpty()) {
+            throw new UnsupportedConstraintException("編譯期驗證器不支援 @" + code + " 的 flags 屬性", element);
+        }
+    }
+
+    /**
+     * 讀取自定義約束的 cost 屬性；未宣告時視為 CHEAP（維持宣告順序）
+     */
+    private int costOf(Map<? extends ExecutableElement, ? extends AnnotationValue> values) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (!entry.getKey().getSimpleName().contentEquals("cost")
+                    || !(entry.getValue().getValue() instanceof VariableElement constant)) {
+                continue;
+            }
+            TypeElement enumType = (TypeElement) constant.getEnclosingElement();
+            if (!enumType.getQualifiedName().contentEquals(CONSTRAINT_COST)) {
+                continue;
+            }
+            int ordinal = 0;
+            for (Element enclosed : enumType.getEnclosedElements()) {
+                if (enclosed.getKind() != ElementKind.ENUM_CONSTANT) {
+                    continue;
+                }
+                if (enclosed.getSimpleName().equals(constant.getSimpleName())) {
+                    return ordinal;
+                }
+                ordinal++;
+            }
+        }
+        return 0;
+    }
+
+    private Object value(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalStateException("找不到註解屬性: " + name);
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String qualifiedName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(qualifiedName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 依照 Hibernate Validator 的 getter 規則推導屬性名稱（isXxx / getXxx / hasXxx）
+     */
+    private String propertyNameOf(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        TypeKind returnKind = method.getReturnType().getKind();
+        String stripped;
+        if (name.startsWith("is") && returnKind == TypeKind.BOOLEAN) {
+            stripped = name.substring(2);
+        } else if (name.startsWith("has") && returnKind == TypeKind.BOOLEAN) {
+            stripped = name.substring(3);
+        } else if (name.startsWith("get") && returnKind != TypeKind.VOID) {
+            stripped = name.substring(3);
+        } else {
+            return null;
+        }
+        if (stripped.isEmpty()) {
+            return null;
+        }
+        return Character.toLowerCase(stripped.charAt(0)) + stripped.substring(1);
+    }
+
+    /**
+     * 一般類別透過 getter 取值（與 Lombok @Data 產生的名稱一致）
+     */
+    private String getterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        return (field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalized;
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.validation.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 將收集到的屬性與約束輸出為 CompiledValidator 原始碼
+ */
+class ValidatorWriter {
+
+    private static final String RUNTIME_PACKAGE = "com.example.validation.validation.compiled";
+    private static final String COMPILED_RULE = "com.example.validation.validation.rule.CompiledRule";
+
+    private final ProcessingEnvironment processingEnv;
+
+    ValidatorWriter(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    void write(TypeElement type, List<PropertyModel> properties, List<RuleModel> rules,
+               List<TypeConstraintModel> typeConstraints) throws IOException {
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL) {
+            throw new UnsupportedConstraintException("@GenerateValidator 只支援頂層類別", type);
+        }
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            throw new UnsupportedConstraintException("@GenerateValidator 只能標註在類別或 Record 上", type);
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String targetName = type.getSimpleName().toString();
+        String validatorName = targetName + "Validator";
+
+        List<String> staticFields = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        List<String> initializers = new ArrayList<>();
+        List<String> checks = new ArrayList<>();
+
+        // 先為每個約束配置成員名稱（Pattern 常數、自定義驗證器欄位）
+        Map<ConstraintModel, String> members = new IdentityHashMap<>();
+        int patternIndex = 0;
+        for (PropertyModel property : properties) {
+            for (ConstraintModel constraint : property.constraints()) {
+                switch (constraint.kind()) {
+                    case PATTERN -> {
+                        String member = "PATTERN_" + patternIndex++;
+                        members.put(constraint, member);
+                        staticFields.add("    private static final java.util.regex.Pattern " + member
+                                + " = java.util.regex.Pattern.compile(" + constraint.argument() + ");");
+                    }
+                    case CUSTOM -> {
+                        String member = property.name() + constraint.code();
+                        members.put(constraint, member);
+                        fields.add("    private final " + constraint.validatorType() + " " + member + ";");
+                        initializers.add("        this." + member + " = support.validator("
+                                + constraint.validatorType() + ".class, " + targetName + ".class, "
+                                + constant(property.member()) + ", " + constraint.annotationType() + ".class);");
+                    }
+                    case BUILTIN -> {
+                    }
+                }
+            }
+        }
+
+        // 第一階段：依宣告順序執行所有低成本約束
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyModel property = properties.get(i);
+            String value = "v" + i;
+            checks.add("        final var " + value + " = target." + property.accessor() + ";");
+            if (hasCostly(property)) {
+                checks.add("        boolean " + value + "Invalid = false;");
+            }
+            for (ConstraintModel constraint : property.constraints()) {
+                if (constraint.cost() == 0) {
+                    appendCheck(checks, property, value, constraint, members.get(constraint), null);
+                }
+            }
+        }
+
+        // 業務規則：在低成本約束之後執行，規則在建構時編譯
+        for (int i = 0; i < rules.size(); i++) {
+            RuleModel rule = rules.get(i);
+            String member = "rule" + i;
+            fields.add("    private final " + COMPILED_RULE + "<" + targetName + "> " + member + ";");
+            initializers.add("        this." + member + " = support.rule(" + targetName + ".class, "
+                    + constant(rule.expression()) + ");");
+            checks.add("        if (!" + member + ".test(target)) {");
+            checks.add("            sink.addViolation(" + constant(rule.field()) + ", \"Rule\", null, "
+                    + constant(rule.message()) + ");");
+            checks.add("            if (sink.shouldStop()) {");
+            checks.add("                return;");
+            checks.add("            }");
+            checks.add("        }");
+        }
+
+        // 類別上的自定義約束：與業務規則相同，以整個物件驗證並回報在 field 指定的欄位
+        for (TypeConstraintModel constraint : typeConstraints) {
+            String member = "type" + constraint.code() + constraint.index();
+            fields.add("    private final " + constraint.validatorType() + " " + member + ";");
+            initializers.add("        this." + member + " = support.typeValidator("
+                    + constraint.validatorType() + ".class, " + targetName + ".class, "
+                    + constraint.annotationType() + ".class, " + constraint.index() + ");");
+            checks.add("        if (!this." + member + ".isValid(target, CompiledConstraintContext.INSTANCE)) {");
+            checks.add("            sink.addViolation(" + constant(constraint.field()) + ", "
+                    + constant(constraint.code()) + ", null, " + constant(constraint.message()) + ");");
+            checks.add("            if (sink.shouldStop()) {");
+            checks.add("                return;");
+            checks.add("            }");
+            checks.add("        }");
+        }
+
+        // 第二階段：依成本由低到高執行其餘約束，已違反約束的屬性直接略過
+        int maxCost = properties.stream()
+                .flatMap(property -> property.constraints().stream())
+                .mapToInt(ConstraintModel::cost)
+                .max()
+                .orElse(0);
+        for (int cost = 1; cost <= maxCost; cost++) {
+            for (int i = 0; i < properties.size(); i++) {
+                PropertyModel property = properties.get(i);
+                for (ConstraintModel constraint : property.constraints()) {
+                    if (constraint.cost() == cost) {
+                        appendCheck(checks, property, "v" + i, constraint, members.get(constraint), "v" + i + "Invalid");
+                    }
+                }
+            }
+        }
+
+        JavaFileObject file = processingEnv.getFiler()
+                .createSourceFile(packageName + "." + validatorName, type);
+        try (Writer out = file.openWriter()) {
+            out.write("package " + packageName + ";\n\n");
+            out.write("import " + RUNTIME_PACKAGE + ".BuiltinConstraints;\n");
+            out.write("import " + RUNTIME_PACKAGE + ".CompiledConstraintContext;\n");
+            out.write("import " + RUNTIME_PACKAGE + ".CompiledValidator;\n");
+            out.write("import " + RUNTIME_PACKAGE + ".ConstraintSupport;\n");
+            out.write("import " + RUNTIME_PACKAGE + ".ViolationSink;\n\n");
+            out.write("/**\n");
+            out.write(" * " + targetName + " 的編譯期驗證器\n");
+            out.write(" *\n");
+            out.write(" * 由 ValidatorProcessor 自動產生，請勿手動修改\n");
+            out.write(" */\n");
+            out.write("@javax.annotation.processing.Generated(\"" + ValidatorProcessor.class.getName() + "\")\n");
+            out.write("@org.springframework.stereotype.Component\n");
+            out.write("public final class " + validatorName + " implements CompiledValidator<" + targetName + "> {\n\n");
+
+            for (String line : staticFields) {
+                out.write(line + "\n");
+            }
+            if (!staticFields.isEmpty()) {
+                out.write("\n");
+            }
+            for (String line : fields) {
+                out.write(line + "\n");
+            }
+            if (!fields.isEmpty()) {
+                out.write("\n");
+            }
+
+            out.write("    public " + validatorName + "(ConstraintSupport support) {\n");
+            for (String line : initializers) {
+                out.write(line + "\n");
+            }
+            out.write("    }\n\n");
+
+            out.write("    @Override\n");
+            out.write("    public Class<" + targetName + "> supportedType() {\n");
+            out.write("        return " + targetName + ".class;\n");
+            out.write("    }\n\n");
+
+            out.write("    @Override\n");
+            out.write("    public void validate(" + targetName + " target, ViolationSink sink) {\n");
+            for (String line : checks) {
+                out.write(line + "\n");
+            }
+            out.write("    }\n");
+            out.write("}\n");
+        }
+    }
+
+    /**
+     * 輸出單一約束的檢查；invalidFlag 不為 null 時，只在屬性尚未違反約束時才檢查
+     */
+    private void appendCheck(List<String> checks, PropertyModel property, String value,
+                             ConstraintModel constraint, String member, String invalidFlag) {
+        String condition = constraint.condition()
+                .replace("{value}", value)
+                .replace("{member}", member == null ? "" : member);
+        if (invalidFlag != null) {
+            condition = "!" + invalidFlag + " && " + condition;
+        }
+        checks.add("        if (" + condition + ") {");
+        checks.add("            sink.addViolation(" + constant(property.name()) + ", "
+                + constant(constraint.code()) + ", " + value + ", " + constant(constraint.message()) + ");");
+        if (hasCostly(property)) {
+            checks.add("            " + value + "Invalid = true;");
+        }
+        checks.add("            if (sink.shouldStop()) {");
+        checks.add("                return;");
+        checks.add("            }");
+        checks.add("        }");
+    }
+
+    private boolean hasCostly(PropertyModel property) {
+        return property.constraints().stream().anyMatch(constraint -> constraint.cost() > 0);
+    }
+
+    /**
+     * 輸出字串字面值；保留中文字元以維持產生程式碼的可讀性
+     */
+    static String constant(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}